@@ -0,0 +1,61 @@
+package org.example.expert.client;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * RestTemplate 호출을 다른 스레드에서 중단할 수 있게 해주는 요청 팩토리입니다.
+ * 호출하는 스레드가 {@link #bind(Handle)} 로 핸들을 등록해 두면, 만들어진 HTTP 요청이 그 핸들에 연결되고
+ * {@link Handle#cancel()} 이 소켓을 닫아 응답을 기다리던 호출을 바로 끝냅니다.
+ */
+class CancellableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+    private static final ThreadLocal<Handle> CURRENT = new ThreadLocal<>();
+
+    CancellableRequestFactory(HttpClient httpClient) {
+        super(httpClient);
+    }
+
+    static void bind(Handle handle) {
+        CURRENT.set(handle);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    @Override
+    protected void postProcessHttpRequest(ClassicHttpRequest request) {
+        Handle handle = CURRENT.get();
+        if (handle != null && request instanceof Cancellable cancellable) {
+            handle.attach(cancellable);
+        }
+    }
+
+    static final class Handle {
+
+        private Cancellable request;
+        private boolean cancelled;
+
+        synchronized void attach(Cancellable request) {
+            if (cancelled) {
+                request.cancel();
+            } else {
+                this.request = request;
+            }
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (request != null) {
+                request.cancel();
+            }
+        }
+
+        synchronized boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
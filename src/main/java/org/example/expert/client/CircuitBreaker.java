@@ -0,0 +1,138 @@
+package org.example.expert.client;
+
+import java.time.Clock;
+
+/**
+ * 최근 호출 결과를 고정 크기 창으로 들고 있다가 실패율이 기준을 넘으면 호출을 막는 서킷 브레이커입니다.
+ * <ul>
+ *     <li>CLOSED: 호출을 허용하고 결과를 기록합니다.</li>
+ *     <li>OPEN: openDuration 동안 호출을 바로 거절합니다.</li>
+ *     <li>HALF_OPEN: 시험 호출 몇 개만 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN 이 됩니다.</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenCalls;
+    private final Clock clock;
+
+    // 최근 windowSize 개 호출의 실패 여부 (원형 버퍼)
+    private final boolean[] failures;
+    private int recorded;
+    private int next;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+    private long rejectedCount;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls, Clock clock) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMillis = openDurationMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+        this.failures = new boolean[windowSize];
+    }
+
+    /**
+     * 호출해도 되면 true 를 반환합니다. true 를 받았다면 반드시 onSuccess 나 onFailure 로 결과를 알려야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.millis() - openedAt < openDurationMillis) {
+                rejectedCount++;
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = 0;
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= halfOpenCalls) {
+                rejectedCount++;
+                return false;
+            }
+            halfOpenPermits++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failureCount / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 알 수 없이 중단된 호출은 기록하지 않고, 시험 호출이었다면 허용 개수만 돌려받습니다.
+     */
+    public synchronized void onCancelled() {
+        if (state == State.HALF_OPEN && halfOpenPermits > 0) {
+            halfOpenPermits--;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public synchronized long rejectedCount() {
+        return rejectedCount;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (failures[next]) {
+                failureCount--;
+            }
+        } else {
+            recorded++;
+        }
+        failures[next] = failure;
+        if (failure) {
+            failureCount++;
+        }
+        next = (next + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.millis();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recorded = 0;
+        next = 0;
+        failureCount = 0;
+    }
+}
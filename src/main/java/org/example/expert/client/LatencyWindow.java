@@ -0,0 +1,42 @@
+package org.example.expert.client;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답 시간 몇 개를 들고 있다가 백분위수를 계산합니다.
+ */
+class LatencyWindow {
+
+    private final long[] samples;
+    private int count;
+    private int next;
+
+    LatencyWindow(int size) {
+        this.samples = new long[size];
+    }
+
+    synchronized void record(long nanos) {
+        samples[next] = nanos;
+        next = (next + 1) % samples.length;
+        if (count < samples.length) {
+            count++;
+        }
+    }
+
+    synchronized int count() {
+        return count;
+    }
+
+    /**
+     * 기록이 없으면 -1 을 반환합니다.
+     */
+    synchronized long percentile(double percentile) {
+        if (count == 0) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+}
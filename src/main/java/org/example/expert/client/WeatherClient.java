@@ -1,61 +1,410 @@
 package org.example.expert.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 연간 날씨 피드를 한 번 받아 날짜별 테이블로 들고 있고, 하루에 한 번 자정 전에 다시 받습니다.
+ * 테이블에 없는 날짜를 요청하면 동시에 들어온 요청은 한 번의 조회를 함께 기다리고,
+ * 조회에 실패하면 마지막으로 알던 날씨를 반환합니다.
+ * <p>
+ * 받은 테이블은 스냅샷 파일로 저장해 두므로, 새로 뜬 노드는 원격 조회 없이 바로 날씨를 반환할 수 있습니다.
+ */
+@Slf4j(topic = "WeatherClient")
 @Component
 public class WeatherClient {
 
     private final RestTemplate restTemplate;
+    private final Clock clock;
 
+    private static final String DEFAULT_MIRROR = "https://f-api.github.io/f-api/weather.json";
+
+    // 앞에서부터 차례로 시도할 날씨 피드 주소 (http, https, file)
+    @Value("${weather.mirrors:" + DEFAULT_MIRROR + "}")
+    private List<String> mirrors = List.of(DEFAULT_MIRROR);
+    @Value("${weather.http.connect-timeout-ms:1000}")
+    private long connectTimeoutMillis = 1000;
+    @Value("${weather.http.read-timeout-ms:2000}")
+    private long readTimeoutMillis = 2000;
+    @Value("${weather.http.max-connections:20}")
+    private int maxConnections = 20;
+    // 이 백분위수의 응답 시간이 지나도 답이 없으면 다음 주소로 요청을 하나 더 보냅니다.
+    @Value("${weather.hedge.percentile:0.95}")
+    private double hedgePercentile = 0.95;
+    // 응답 시간 기록이 충분하지 않을 때 쓰는 대기 시간
+    @Value("${weather.hedge.initial-delay-ms:300}")
+    private long hedgeInitialDelayMillis = 300;
+
+    private static final int HEDGE_MIN_SAMPLES = 8;
+    private static final ObjectMapper FILE_MAPPER = Jackson2ObjectMapperBuilder.json().build();
+
+    // 주소별로 최근 20번 중 5번 이상 호출했고 그중 절반 이상 실패하면 30초 동안 호출을 막습니다.
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final LatencyWindow latencies = new LatencyWindow(64);
+    private final LongAdder hedgedRequests = new LongAdder();
+    private final ExecutorService fetchExecutor = new ThreadPoolExecutor(
+            0, 16, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            new CustomizableThreadFactory("weather-fetch-") {{
+                setDaemon(true);
+            }});
+    private CloseableHttpClient httpClient;
+
+    // 비어 있으면 스냅샷을 쓰지 않습니다.
+    @Value("${weather.snapshot-file:${java.io.tmpdir}/expert-weather.snapshot}")
+    private String snapshotFile;
+
+    private volatile WeatherTable table;
+    // 테이블을 원격에서 마지막으로 받은 날짜 (스냅샷에서 읽었다면 null)
+    private volatile LocalDate fetchedOn;
+    private final AtomicReference<CompletableFuture<Void>> inFlight = new AtomicReference<>();
+    private volatile String lastKnownWeather;
+
+    @Autowired
     public WeatherClient(RestTemplateBuilder builder) {
+        this(builder, Clock.systemDefaultZone());
+    }
+
+    public WeatherClient(RestTemplateBuilder builder, Clock clock) {
         this.restTemplate = builder.build();
+        this.clock = clock;
+    }
+
+    /**
+     * keep-alive 커넥션을 재사용하고, 연결과 응답 대기에 상한을 둔 HTTP 클라이언트를 씁니다.
+     */
+    @PostConstruct
+    public void initHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnections)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+        httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에서 커넥션을 기다리는 시간도 제한합니다.
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+        restTemplate.setRequestFactory(new CancellableRequestFactory(httpClient));
+    }
+
+    @PreDestroy
+    public void destroy() throws IOException {
+        fetchExecutor.shutdownNow();
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
+    @PostConstruct
+    public void loadSnapshot() {
+        if (!StringUtils.hasText(snapshotFile) || !Files.exists(Path.of(snapshotFile))) {
+            return;
+        }
+        try {
+            table = WeatherTable.readFrom(Path.of(snapshotFile));
+            log.info("날씨 스냅샷을 읽었습니다: {}일", table.size());
+        } catch (IOException e) {
+            // 스냅샷이 깨졌으면 원격 조회로 다시 채웁니다.
+            log.warn("날씨 스냅샷을 읽을 수 없습니다: {}", e.getMessage());
+        }
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        LocalDate today = LocalDate.now(clock);
+        String weather = lookup(today);
+        if (weather != null) {
+            return weather;
+        }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        try {
+            // 자정 전 미리 조회처럼 다른 날짜를 위한 조회에 합류했다면 오늘 날씨가 없을 수 있으므로 한 번 더 조회합니다.
+            for (int attempt = 0; attempt < 2 && weather == null; attempt++) {
+                refresh(today, false);
+                weather = lookup(today);
+            }
+            if (weather == null) {
+                throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+            }
+            return weather;
+        } catch (RuntimeException e) {
+            String lastKnown = lastKnownWeather;
+            if (lastKnown == null) {
+                throw e;
+            }
+            log.warn("날씨 조회 실패, 마지막으로 조회한 날씨를 사용합니다: {}", e.getMessage());
+            return lastKnown;
         }
-        else if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+    }
+
+    /**
+     * 자정 전에 내일 날씨를 미리 받아 두어 날짜가 바뀌는 순간 요청이 원격 조회를 기다리지 않게 합니다.
+     */
+    @Scheduled(cron = "${weather.prefetch-cron:0 50 23 * * *}")
+    public void prefetchTomorrow() {
+        try {
+            refresh(LocalDate.now(clock).plusDays(1), true);
+        } catch (RuntimeException e) {
+            log.warn("내일 날씨 미리 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    private String lookup(LocalDate date) {
+        WeatherTable current = table;
+        return current == null ? null : current.get(date);
+    }
+
+    // 같은 시점에 하나의 조회만 실행하고, 나머지 호출은 그 결과를 기다립니다.
+    // daily 이면 오늘 이미 받은 경우에만 건너뛰고, 아니면 date 의 날씨가 테이블에 있을 때 건너뜁니다.
+    private void refresh(LocalDate date, boolean daily) {
+        CompletableFuture<Void> mine = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.compareAndExchange(null, mine);
+        if (running != null) {
+            try {
+                running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+            return;
+        }
+
+        RuntimeException failure = null;
+        try {
+            // 앞선 조회가 끝난 직후 들어온 경우 다시 조회하지 않습니다.
+            boolean fresh = daily ? LocalDate.now(clock).equals(fetchedOn) : lookup(date) != null;
+            if (!fresh) {
+                load(date);
+            }
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            // 기다리던 호출이 깨어나 다시 조회할 때 끝난 조회에 또 합류하지 않도록 먼저 비운 뒤 깨웁니다.
+            inFlight.set(null);
+            if (failure == null) {
+                mine.complete(null);
+            } else {
+                mine.completeExceptionally(failure);
+            }
+        }
+    }
+
+    private void load(LocalDate date) {
+        WeatherTable fetched = WeatherTable.of(fetchWeather());
+        table = fetched;
+        fetchedOn = LocalDate.now(clock);
+        saveSnapshot(fetched);
+
+        String todayWeather = fetched.get(fetchedOn);
+        if (todayWeather != null) {
+            lastKnownWeather = todayWeather;
+        }
+        if (fetched.get(date) == null) {
+            throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        }
+    }
+
+    private void saveSnapshot(WeatherTable fetched) {
+        if (!StringUtils.hasText(snapshotFile)) {
+            return;
+        }
+        try {
+            fetched.writeTo(Path.of(snapshotFile));
+        } catch (IOException e) {
+            log.warn("날씨 스냅샷을 저장할 수 없습니다: {}", e.getMessage());
+        }
+    }
+
+    public List<String> getMirrors() {
+        return mirrors;
+    }
+
+    public CircuitBreaker circuitBreaker(String mirror) {
+        return circuitBreakers.computeIfAbsent(mirror,
+                key -> new CircuitBreaker(20, 5, 0.5, 30_000, 3, Clock.systemUTC()));
+    }
+
+    public long hedgedRequestCount() {
+        return hedgedRequests.sum();
+    }
+
+    /**
+     * 다음 주소로 요청을 하나 더 보내기 전에 기다리는 시간 (밀리초)
+     */
+    public long hedgeDelayMillis() {
+        if (latencies.count() < HEDGE_MIN_SAMPLES) {
+            return hedgeInitialDelayMillis;
+        }
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(latencies.percentile(hedgePercentile)));
+    }
+
+    /**
+     * 첫 주소로 요청을 보내고, 지연 기준 안에 답이 없거나 실패하면 다음 주소로 요청을 하나 더 보냅니다.
+     * 가장 먼저 도착한 정상 응답을 쓰고 나머지 요청은 중단합니다.
+     */
+    private WeatherDto[] fetchWeather() {
+        if (mirrors.size() == 1) {
+            return fetchFrom(mirrors.get(0), new CancellableRequestFactory.Handle());
         }
 
-        String today = getCurrentDate();
+        CompletionService<WeatherDto[]> completion = new ExecutorCompletionService<>(fetchExecutor);
+        List<Future<WeatherDto[]>> futures = new ArrayList<>();
+        List<CancellableRequestFactory.Handle> handles = new ArrayList<>();
+        long hedgeDelayMillis = hedgeDelayMillis();
+        RuntimeException lastError = null;
+        int finished = 0;
+        try {
+            start(completion, mirrors.get(0), futures, handles);
+            while (finished < futures.size()) {
+                boolean canHedge = futures.size() < mirrors.size();
+                Future<WeatherDto[]> done = canHedge
+                        ? completion.poll(hedgeDelayMillis, TimeUnit.MILLISECONDS)
+                        : completion.take();
+                if (done == null) {
+                    hedgedRequests.increment();
+                    start(completion, mirrors.get(futures.size()), futures, handles);
+                    continue;
+                }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+                finished++;
+                try {
+                    return done.get();
+                } catch (ExecutionException e) {
+                    lastError = e.getCause() instanceof RuntimeException cause
+                            ? cause
+                            : new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getCause());
+                    // 실패했으면 기다리지 않고 바로 다음 주소로 보냅니다.
+                    if (futures.size() < mirrors.size() && finished == futures.size()) {
+                        start(completion, mirrors.get(futures.size()), futures, handles);
+                    }
+                }
             }
+            throw lastError;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServerException("날씨 조회 중 인터럽트가 발생했습니다.");
+        } finally {
+            handles.forEach(CancellableRequestFactory.Handle::cancel);
+            futures.forEach(future -> future.cancel(true));
         }
+    }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    private void start(CompletionService<WeatherDto[]> completion, String mirror,
+                       List<Future<WeatherDto[]>> futures, List<CancellableRequestFactory.Handle> handles) {
+        CancellableRequestFactory.Handle handle = new CancellableRequestFactory.Handle();
+        handles.add(handle);
+        try {
+            futures.add(completion.submit(() -> fetchFrom(mirror, handle)));
+        } catch (RejectedExecutionException e) {
+            throw new ServerException("날씨 조회 스레드가 부족합니다.");
+        }
     }
 
-    private URI buildWeatherApiUri() {
-        return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
-                .encode()
-                .build()
-                .toUri();
+    private WeatherDto[] fetchFrom(String mirror, CancellableRequestFactory.Handle handle) {
+        URI uri = URI.create(mirror);
+        if ("file".equals(uri.getScheme())) {
+            return readFile(uri);
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreaker(mirror);
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServerException("날씨 API 장애로 호출을 잠시 중단했습니다.");
+        }
+
+        long start = System.nanoTime();
+        ResponseEntity<WeatherDto[]> responseEntity;
+        CancellableRequestFactory.bind(handle);
+        try {
+            responseEntity = restTemplate.getForEntity(uri, WeatherDto[].class);
+        } catch (RuntimeException e) {
+            // 다른 주소가 먼저 답해서 중단된 요청은 장애로 세지 않습니다.
+            if (handle.isCancelled()) {
+                circuitBreaker.onCancelled();
+            } else {
+                circuitBreaker.onFailure();
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getMessage());
+        } finally {
+            CancellableRequestFactory.unbind();
+        }
+
+        WeatherDto[] weatherArray = responseEntity.getBody();
+        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
+            circuitBreaker.onFailure();
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        }
+        circuitBreaker.onSuccess();
+        latencies.record(System.nanoTime() - start);
+        if (weatherArray == null || weatherArray.length == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+        return weatherArray;
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private WeatherDto[] readFile(URI uri) {
+        WeatherDto[] weatherArray;
+        try {
+            weatherArray = FILE_MAPPER.readValue(Path.of(uri).toFile(), WeatherDto[].class);
+        } catch (IOException e) {
+            throw new ServerException("날씨 파일을 읽을 수 없습니다: " + uri);
+        }
+        if (weatherArray == null || weatherArray.length == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+        return weatherArray;
     }
 }
@@ -0,0 +1,138 @@
+package org.example.expert.client;
+
+import org.example.expert.client.dto.WeatherDto;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 연간 날씨 피드를 윤년 기준 일자(0~365) 로 인덱싱한 불변 테이블입니다.
+ * 날씨 문자열은 종류가 적으므로 사전으로 한 번만 저장하고, 각 날짜는 사전 번호 1바이트만 가집니다.
+ */
+final class WeatherTable {
+
+    private static final int MAGIC = 0x57545442; // "WTTB"
+    private static final byte VERSION = 1;
+    private static final int DAYS = 366;
+    private static final int LEAP_YEAR = 2000;
+    private static final byte MISSING = -1;
+
+    private final String[] dictionary;
+    private final byte[] days;
+
+    private WeatherTable(String[] dictionary, byte[] days) {
+        this.dictionary = dictionary;
+        this.days = days;
+    }
+
+    static WeatherTable of(WeatherDto[] weatherArray) {
+        List<String> dictionary = new ArrayList<>();
+        Map<String, Byte> indexes = new HashMap<>();
+        byte[] days = new byte[DAYS];
+        Arrays.fill(days, MISSING);
+
+        for (WeatherDto weatherDto : weatherArray) {
+            int day = dayIndex(weatherDto.getDate());
+            if (day < 0 || weatherDto.getWeather() == null) {
+                continue;
+            }
+            Byte index = indexes.get(weatherDto.getWeather());
+            if (index == null) {
+                if (dictionary.size() == 255) {
+                    throw new ServerException("날씨 종류가 너무 많습니다.");
+                }
+                index = (byte) dictionary.size();
+                dictionary.add(weatherDto.getWeather());
+                indexes.put(weatherDto.getWeather(), index);
+            }
+            days[day] = index;
+        }
+        return new WeatherTable(dictionary.toArray(String[]::new), days);
+    }
+
+    String get(LocalDate date) {
+        byte index = days[LocalDate.of(LEAP_YEAR, date.getMonth(), date.getDayOfMonth()).getDayOfYear() - 1];
+        return index == MISSING ? null : dictionary[index & 0xFF];
+    }
+
+    int size() {
+        int size = 0;
+        for (byte day : days) {
+            if (day != MISSING) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 교체하므로 읽는 쪽은 항상 완전한 스냅샷만 봅니다.
+     */
+    void writeTo(Path snapshotFile) throws IOException {
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tempFile = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+                out.writeByte(dictionary.length);
+                for (String weather : dictionary) {
+                    out.writeUTF(weather);
+                }
+                out.write(days);
+            }
+            Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    static WeatherTable readFrom(Path snapshotFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+                throw new IOException("날씨 스냅샷 형식이 올바르지 않습니다: " + snapshotFile);
+            }
+            String[] dictionary = new String[in.readUnsignedByte()];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = in.readUTF();
+            }
+            byte[] days = new byte[DAYS];
+            in.readFully(days);
+            for (byte day : days) {
+                if (day != MISSING && (day & 0xFF) >= dictionary.length) {
+                    throw new IOException("날씨 스냅샷 형식이 올바르지 않습니다: " + snapshotFile);
+                }
+            }
+            return new WeatherTable(dictionary, days);
+        }
+    }
+
+    // "MM-dd" 를 윤년 기준 일자로 바꿉니다. 형식이 잘못되었으면 -1 을 반환합니다.
+    private static int dayIndex(String date) {
+        if (date == null) {
+            return -1;
+        }
+        try {
+            MonthDay monthDay = MonthDay.parse("--" + date);
+            return monthDay.atYear(LEAP_YEAR).getDayOfYear() - 1;
+        } catch (DateTimeException e) {
+            return -1;
+        }
+    }
+}
@@ -4,7 +4,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
-import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.core.MethodParameter;
 import org.springframework.lang.Nullable;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -12,19 +11,22 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
 
+    // 파라미터별 어노테이션 검사 결과 (핸들러 메서드 수만큼만 쌓입니다)
+    private final Map<MethodParameter, Boolean> supportCache = new ConcurrentHashMap<>();
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        boolean hasAuthAnnotation = parameter.getParameterAnnotation(Auth.class) != null;
-        boolean isAuthUserType = parameter.getParameterType().equals(AuthUser.class);
-
-        // @Auth 어노테이션과 AuthUser 타입이 함께 사용되지 않은 경우 예외 발생
-        if (hasAuthAnnotation != isAuthUserType) {
-            throw new AuthException("@Auth와 AuthUser 타입은 함께 사용되어야 합니다.");
+        Boolean supported = supportCache.get(parameter);
+        if (supported == null) {
+            supported = inspect(parameter);
+            supportCache.put(parameter, supported);
         }
-
-        return hasAuthAnnotation;
+        return supported;
     }
 
     @Override
@@ -36,11 +38,23 @@ public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
     ) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
 
-        // JwtFilter 에서 set 한 userId, email, userRole 값을 가져옴
-        Long userId = (Long) request.getAttribute("userId");
-        String email = (String) request.getAttribute("email");
-        UserRole userRole = UserRole.of((String) request.getAttribute("userRole"));
+        // JwtFilter 에서 set 한 인증 유저를 그대로 꺼냅니다.
+        AuthUser authUser = (AuthUser) request.getAttribute(AuthUser.ATTRIBUTE);
+        if (authUser == null) {
+            throw new AuthException("인증 정보가 없습니다.");
+        }
+        return authUser;
+    }
+
+    private boolean inspect(MethodParameter parameter) {
+        boolean hasAuthAnnotation = parameter.getParameterAnnotation(Auth.class) != null;
+        boolean isAuthUserType = parameter.getParameterType().equals(AuthUser.class);
+
+        // @Auth 어노테이션과 AuthUser 타입이 함께 사용되지 않은 경우 예외 발생
+        if (hasAuthAnnotation != isAuthUserType) {
+            throw new AuthException("@Auth와 AuthUser 타입은 함께 사용되어야 합니다.");
+        }
 
-        return new AuthUser(userId, email, userRole);
+        return hasAuthAnnotation;
     }
 }
@@ -0,0 +1,180 @@
+package org.example.expert.config;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로세스 안에 두는 Hibernate 2차 캐시입니다. region 마다 최대 항목 수를 넘으면 가장 오래 쓰지 않은 항목부터 버리고,
+ * 항목은 ttl 이 지나면 만료됩니다. 캐시는 서버마다 따로 있으므로 다른 서버에서 바뀐 값은 ttl 안에서만 늦게 보일 수 있습니다.
+ * <p>
+ * 적중/미스/제거 횟수는 Hibernate 통계를 켜지 않아도 집계하므로 그대로 메트릭으로 내보낼 수 있습니다.
+ */
+public class BoundedCacheRegionFactory extends RegionFactoryTemplate {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final List<Storage> storages = new CopyOnWriteArrayList<>();
+
+    public BoundedCacheRegionFactory(int maxEntries, long ttlMillis) {
+        this(maxEntries, ttlMillis, Clock.systemUTC());
+    }
+
+    public BoundedCacheRegionFactory(int maxEntries, long ttlMillis, Clock clock) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    public long hitCount() {
+        return storages.stream().mapToLong(storage -> storage.hits.sum()).sum();
+    }
+
+    public long missCount() {
+        return storages.stream().mapToLong(storage -> storage.misses.sum()).sum();
+    }
+
+    public long evictionCount() {
+        return storages.stream().mapToLong(storage -> storage.evictions.sum()).sum();
+    }
+
+    public int size() {
+        return storages.stream().mapToInt(Storage::size).sum();
+    }
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        storages.forEach(Storage::release);
+        storages.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+                                                                    DomainDataRegionBuildingContext buildingContext) {
+        return register(new Storage(maxEntries, ttlMillis, clock));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+                                                                  SessionFactoryImplementor sessionFactory) {
+        return register(new Storage(maxEntries, ttlMillis, clock));
+    }
+
+    // 갱신 시각은 버려지면 쿼리 캐시가 오래된 결과를 돌려줄 수 있으므로 크기와 만료를 두지 않습니다.
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+                                                                SessionFactoryImplementor sessionFactory) {
+        return register(new Storage(Integer.MAX_VALUE, 0, clock));
+    }
+
+    private Storage register(Storage storage) {
+        storages.add(storage);
+        return storage;
+    }
+
+    static class Storage implements DomainDataStorageAccess {
+
+        private final int maxEntries;
+        private final long ttlMillis;
+        private final Clock clock;
+        // 접근 순서로 정렬해 맨 앞이 가장 오래 쓰지 않은 항목입니다.
+        private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        Storage(int maxEntries, long ttlMillis, Clock clock) {
+            this.maxEntries = maxEntries;
+            this.ttlMillis = ttlMillis;
+            this.clock = clock;
+        }
+
+        @Override
+        public synchronized Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.isExpired(clock.millis())) {
+                entries.remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        }
+
+        @Override
+        public synchronized void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            long expiresAt = ttlMillis > 0 ? clock.millis() + ttlMillis : Long.MAX_VALUE;
+            entries.put(key, new Entry(value, expiresAt));
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (entries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        @Override
+        public synchronized void removeFromCache(Object key, SharedSessionContractImplementor session) {
+            entries.remove(key);
+        }
+
+        @Override
+        public synchronized void clearCache(SharedSessionContractImplementor session) {
+            entries.clear();
+        }
+
+        @Override
+        public synchronized boolean contains(Object key) {
+            Entry entry = entries.get(key);
+            return entry != null && !entry.isExpired(clock.millis());
+        }
+
+        @Override
+        public synchronized void evictData() {
+            entries.clear();
+        }
+
+        @Override
+        public synchronized void evictData(Object key) {
+            entries.remove(key);
+        }
+
+        @Override
+        public synchronized void release() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private record Entry(Object value, long expiresAt) {
+
+        boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.replica.urls 를 지정하면 읽기 전용 트랜잭션을 replica 로 보내는 DataSource 를 사용합니다.
+ * 지정하지 않으면 이 설정은 빠지고 spring.datasource 하나만 사용합니다.
+ * replica 에는 primary 와 같은 계정으로 접속합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.urls")
+public class DataSourceConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.urls}") String[] replicaUrls,
+            @Value("${datasource.read-your-writes-ms:5000}") long readYourWritesMillis
+    ) {
+        HikariDataSource primary = pool(properties, properties.determineUrl(), "primary");
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.length; i++) {
+            replicas.add(pool(properties, replicaUrls[i].trim(), "replica-" + i));
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, new ReadYourWritesTracker(readYourWritesMillis));
+    }
+
+    private HikariDataSource pool(DataSourceProperties properties, String url, String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -1,5 +1,6 @@
 package org.example.expert.config;
 
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 
@@ -9,6 +10,14 @@ public class EntityResponser {
         return new ResponseEntity<>(entity, status);
     }
 
+    // ETag 와 Last-Modified 헤더를 붙여 200 으로 응답합니다.
+    public static <T> ResponseEntity<T> versionedResponser(T entity, ResourceVersion version) {
+        return ResponseEntity.ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModified())
+                .body(entity);
+    }
+
     public static ResponseEntity<Void> voidResponser(HttpStatusCode status){
         return ResponseEntity.status(status).build();
     }
@@ -0,0 +1,68 @@
+package org.example.expert.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * id_blocks 의 다음 블록이 각 테이블의 max(id) 보다 뒤에서 시작하도록 맞춥니다.
+ * IDENTITY 로 id 를 받던 DB 에는 id_blocks 행이 없으므로, 그대로 두면 Hibernate 가 1 부터 다시 나눠 주어 기존 행과 겹칩니다.
+ * 값은 늘리기만 하므로 여러 서버가 동시에 떠도 이미 받아 간 블록과 겹치지 않습니다.
+ */
+@Slf4j
+public class IdBlockInitializer implements InitializingBean {
+
+    // 엔티티의 @TableGenerator allocationSize 와 같아야 합니다.
+    static final int ALLOCATION_SIZE = 100;
+
+    // id_blocks 의 entity 값과 테이블 이름
+    private static final List<String> TABLES = List.of("users", "todos", "comments", "managers");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdBlockInitializer(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        TABLES.forEach(this::seed);
+    }
+
+    private void seed(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        if (maxId == null || maxId == 0) {
+            return;
+        }
+        // pooled optimizer 는 읽은 값 v 에 대해 (v - allocationSize, v] 블록을 쓰므로 max(id) + allocationSize 이상이어야 합니다.
+        long nextVal = maxId + ALLOCATION_SIZE;
+        if (raise(table, nextVal) || exists(table)) {
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO id_blocks (entity, next_val) VALUES (?, ?)", table, nextVal);
+            log.info("id_blocks 초기화: {} next_val={}", table, nextVal);
+        } catch (DuplicateKeyException e) {
+            // 다른 서버가 먼저 행을 만들었으면 그 값을 다시 올립니다.
+            raise(table, nextVal);
+        }
+    }
+
+    private boolean raise(String table, long nextVal) {
+        int updated = jdbcTemplate.update("UPDATE id_blocks SET next_val = ? WHERE entity = ? AND next_val < ?",
+                nextVal, table, nextVal);
+        if (updated > 0) {
+            log.info("id_blocks 보정: {} next_val={}", table, nextVal);
+        }
+        return updated > 0;
+    }
+
+    private boolean exists(String table) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM id_blocks WHERE entity = ?", Integer.class, table);
+        return count != null && count > 0;
+    }
+}
@@ -1,6 +1,5 @@
 package org.example.expert.config;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -10,16 +9,19 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.RouteClassifier.Route;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
 
 import java.io.IOException;
-import java.util.Optional;
 
 @Slf4j
 @RequiredArgsConstructor
 public class JwtFilter implements Filter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     public void init(FilterConfig filterConfig) throws ServletException {
@@ -31,9 +33,9 @@ public class JwtFilter implements Filter {
         HttpServletRequest httpRequest = (HttpServletRequest) request;
         HttpServletResponse httpResponse = (HttpServletResponse) response;
 
-        String url = httpRequest.getRequestURI();
+        Route route = RouteClassifier.classify(httpRequest.getRequestURI());
 
-        if (url.startsWith("/auth")) {
+        if (route == Route.PUBLIC) {
             chain.doFilter(request, response);
             return;
         }
@@ -49,30 +51,33 @@ public class JwtFilter implements Filter {
         String jwt = jwtUtil.substringToken(bearerJwt);
 
         try {
-            // JWT 유효성 검사와 claims 추출
-            Optional<Claims> oClaims = Optional.ofNullable(jwtUtil.extractClaims(jwt));
-            if (oClaims.isEmpty()) {
+            // JWT 유효성 검사와 인증 유저 추출
+            VerifiedToken verifiedToken = jwtUtil.authenticate(jwt);
+            if (verifiedToken == null) {
                 httpResponse.sendError(HttpServletResponse.SC_BAD_REQUEST, "잘못된 JWT 토큰입니다.");
                 return;
             }
-            Claims claims = oClaims.get();
+            AuthUser authUser = verifiedToken.authUser();
 
-            UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+            // 권한 변경 등으로 폐기된 토큰은 만료 전이라도 401을 반환합니다.
+            if (tokenRevocationService.isRevoked(authUser.getId(), verifiedToken.issuedAt())) {
+                httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "폐기된 JWT 토큰입니다.");
+                return;
+            }
 
-            httpRequest.setAttribute("userId", Long.parseLong(claims.getSubject()));
-            httpRequest.setAttribute("email", claims.get("email"));
-            httpRequest.setAttribute("userRole", claims.get("userRole"));
+            httpRequest.setAttribute(AuthUser.ATTRIBUTE, authUser);
 
-            if (url.startsWith("/admin")) {
+            if (route == Route.ADMIN) {
                 // 관리자 권한이 없는 경우 403을 반환합니다.
-                if (!UserRole.ADMIN.equals(userRole)) {
+                if (!UserRole.ADMIN.equals(authUser.getUserRole())) {
                     httpResponse.sendError(HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 없습니다.");
                     return;
                 }
             }
 
             chain.doFilter(request, response);
-        } catch (SecurityException | MalformedJwtException e) {
+        } catch (SecurityException | io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
+            // 서명이 맞지 않거나 kid 가 알 수 없는(교체로 빠진) 키인 경우 jjwt 의 SecurityException 이 발생합니다.
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.", e);
             httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "유효하지 않는 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
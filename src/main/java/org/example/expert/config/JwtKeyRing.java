@@ -0,0 +1,197 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * kid 별 서명 키 묶음
+ * 토큰 헤더의 kid 로 키를 바로 찾고, 키 파일이 바뀌면 실행 중에 다시 읽어 롤링 교체를 지원합니다.
+ *
+ * 키 파일은 properties 형식입니다.
+ * <pre>
+ * active=2025-06
+ * 2025-05=base64 secret
+ * 2025-06=base64 secret
+ * </pre>
+ * kid 가 없는 토큰(키 링 도입 전에 발급된 토큰)은 기본 키로 검증합니다.
+ */
+@Slf4j(topic = "JwtKeyRing")
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    public static final String DEFAULT_KID = "default";
+    private static final String ACTIVE_PROPERTY = "active";
+
+    private final Key defaultKey;
+    private final Runnable onKeyChanged;
+
+    // 읽기는 락 없이 하도록 통째로 교체되는 불변 스냅샷을 사용합니다.
+    private volatile Snapshot snapshot;
+    private volatile WatchService watchService;
+
+    public JwtKeyRing(String defaultSecret, Runnable onKeyChanged) {
+        this.defaultKey = decode(defaultSecret);
+        this.onKeyChanged = onKeyChanged;
+        this.snapshot = new Snapshot(Map.of(DEFAULT_KID, defaultKey), DEFAULT_KID);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        Key key = find(header.getKeyId());
+        if (key == null) {
+            throw new SignatureException("알 수 없는 JWT 서명 키입니다. kid: " + header.getKeyId());
+        }
+        return key;
+    }
+
+    public Key find(String kid) {
+        return snapshot.keys().get(kid == null ? DEFAULT_KID : kid);
+    }
+
+    /**
+     * 새 토큰 서명에 쓸 kid 와 키를 한 스냅샷에서 꺼내 반환합니다.
+     */
+    public ActiveKey active() {
+        Snapshot current = snapshot;
+        return new ActiveKey(current.activeKid(), current.keys().get(current.activeKid()));
+    }
+
+    /**
+     * 감시 스레드와 호출한 스레드가 동시에 읽어도, 스냅샷 교체와 캐시 무효화가 한 번의 load 안에서 함께 끝나도록 직렬화합니다.
+     */
+    public synchronized void load(Path keyFile) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(keyFile)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new ServerException("JWT 키 파일을 읽을 수 없습니다: " + keyFile);
+        }
+
+        Map<String, Key> keys = new HashMap<>();
+        keys.put(DEFAULT_KID, defaultKey);
+        for (String kid : properties.stringPropertyNames()) {
+            if (!ACTIVE_PROPERTY.equals(kid)) {
+                keys.put(kid, decode(properties.getProperty(kid)));
+            }
+        }
+
+        String activeKid = properties.getProperty(ACTIVE_PROPERTY, DEFAULT_KID);
+        if (!keys.containsKey(activeKid)) {
+            throw new ServerException("active 로 지정된 kid 에 해당하는 키가 없습니다: " + activeKid);
+        }
+
+        Snapshot previous = snapshot;
+        snapshot = new Snapshot(Map.copyOf(keys), activeKid);
+        log.info("JWT 키 링을 불러왔습니다. kids: {}, active: {}", keys.keySet(), activeKid);
+
+        // 빠지거나 같은 kid 로 secret 이 바뀐 키로 검증되어 캐시에 남아 있는 토큰이 계속 통과하지 않도록 알립니다.
+        if (changedOrRemoved(previous.keys(), keys)) {
+            onKeyChanged.run();
+        }
+    }
+
+    /**
+     * 키 파일이 있는 디렉터리를 감시하다가 파일이 바뀌면 다시 읽습니다.
+     * 잘못된 파일이 들어오면 이전 키 링을 그대로 유지합니다.
+     */
+    public void watch(Path keyFile) {
+        Path directory = keyFile.toAbsolutePath().getParent();
+        Path fileName = keyFile.getFileName();
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            throw new ServerException("JWT 키 파일을 감시할 수 없습니다: " + keyFile);
+        }
+
+        Thread watcher = new Thread(() -> watchLoop(keyFile, fileName), "jwt-key-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    public void close() {
+        WatchService current = watchService;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.close();
+        } catch (IOException e) {
+            log.warn("JWT 키 파일 감시를 종료하지 못했습니다.", e);
+        }
+    }
+
+    private void watchLoop(Path keyFile, Path fileName) {
+        try {
+            while (true) {
+                WatchKey watchKey = watchService.take();
+                boolean changed = false;
+                for (WatchEvent<?> event : watchKey.pollEvents()) {
+                    if (fileName.equals(event.context())) {
+                        changed = true;
+                    }
+                }
+                if (changed) {
+                    reload(keyFile);
+                }
+                if (!watchKey.reset()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // close() 로 종료
+        }
+    }
+
+    private void reload(Path keyFile) {
+        try {
+            load(keyFile);
+        } catch (RuntimeException e) {
+            log.error("JWT 키 파일을 다시 읽지 못해 이전 키 링을 유지합니다.", e);
+        }
+    }
+
+    private static boolean changedOrRemoved(Map<String, Key> previous, Map<String, Key> current) {
+        for (Map.Entry<String, Key> entry : previous.entrySet()) {
+            Key key = current.get(entry.getKey());
+            if (key == null || !MessageDigest.isEqual(key.getEncoded(), entry.getValue().getEncoded())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Key decode(String secret) {
+        return Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret.trim()));
+    }
+
+    public record ActiveKey(String kid, Key key) {
+    }
+
+    private record Snapshot(Map<String, Key> keys, String activeKid) {
+    }
+}
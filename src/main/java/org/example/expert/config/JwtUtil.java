@@ -1,19 +1,25 @@
 package org.example.expert.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.UnsupportedJwtException;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.auth.exception.AuthException;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.security.Key;
-import java.util.Base64;
+import java.nio.file.Path;
 import java.util.Date;
 
 @Slf4j(topic = "JwtUtil")
@@ -21,32 +27,80 @@ import java.util.Date;
 public class JwtUtil {
 
     private static final String BEARER_PREFIX = "Bearer ";
-    private static final long TOKEN_TIME = 60 * 60 * 1000L; // 60분
+    private static final long TOKEN_TIME = 15 * 60 * 1000L; // 15분
+    public static final long REFRESH_TOKEN_TIME = 14 * 24 * 60 * 60 * 1000L; // 14일
+    private static final String TOKEN_TYPE = "type";
+    private static final String ACCESS_TYPE = "access";
+    private static final String REFRESH_TYPE = "refresh";
+    private static final int TOKEN_CACHE_SIZE = 10_000;
 
     private String secretKey = "a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6q7r8s9t0u1v2w3x4y5z6";
-    private Key key;
     private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
 
+    // kid 별 서명 키를 담은 파일 (비어 있으면 secretKey 하나만 사용)
+    @Value("${jwt.key-file:}")
+    private String keyFile;
+    @Getter
+    private JwtKeyRing keyRing;
+
+    // 파서는 thread-safe 하므로 한 번만 만들어 공유합니다.
+    private JwtParser jwtParser;
+    @Getter
+    private final VerifiedTokenCache tokenCache = new VerifiedTokenCache(TOKEN_CACHE_SIZE);
+
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        keyRing = new JwtKeyRing(secretKey, tokenCache::invalidateAll);
+        if (StringUtils.hasText(keyFile)) {
+            Path path = Path.of(keyFile);
+            keyRing.load(path);
+            keyRing.watch(path);
+        }
+
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(keyRing)
+                .build();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        keyRing.close();
     }
 
     public String createToken(Long userId, String email, UserRole userRole) {
         Date date = new Date();
+        JwtKeyRing.ActiveKey signingKey = keyRing.active();
 
         return BEARER_PREFIX +
                 Jwts.builder()
+                        .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
                         .setSubject(String.valueOf(userId))
                         .claim("email", email)
                         .claim("userRole", userRole)
+                        .claim(TOKEN_TYPE, ACCESS_TYPE)
                         .setExpiration(new Date(date.getTime() + TOKEN_TIME))
                         .setIssuedAt(date) // 발급일
-                        .signWith(key, signatureAlgorithm) // 암호화 알고리즘
+                        .signWith(signingKey.key(), signatureAlgorithm) // 암호화 알고리즘
                         .compact();
     }
 
+    /**
+     * access 토큰 재발급에 쓰는 refresh 토큰을 만듭니다. 유저 id 만 담고 Bearer 접두사는 붙이지 않습니다.
+     */
+    public String createRefreshToken(Long userId) {
+        Date date = new Date();
+        JwtKeyRing.ActiveKey signingKey = keyRing.active();
+
+        return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
+                .setSubject(String.valueOf(userId))
+                .claim(TOKEN_TYPE, REFRESH_TYPE)
+                .setExpiration(new Date(date.getTime() + REFRESH_TOKEN_TIME))
+                .setIssuedAt(date)
+                .signWith(signingKey.key(), signatureAlgorithm)
+                .compact();
+    }
+
     public String substringToken(String tokenValue) {
         if (StringUtils.hasText(tokenValue) && tokenValue.startsWith(BEARER_PREFIX)) {
             return tokenValue.substring(7);
@@ -55,10 +109,64 @@ public class JwtUtil {
     }
 
     public Claims extractClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * access 토큰을 검증하고 인증 유저를 반환합니다. 토큰에 정보가 없으면 null 을 반환합니다.
+     * 이미 검증된 토큰은 만료 전까지 캐시에서 꺼내므로 서명 검증과 Claims 생성을 다시 하지 않습니다.
+     */
+    public VerifiedToken authenticate(String token) {
+        VerifiedToken cached = tokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 검증 중에 키가 교체되면 이전 키로 검증한 결과를 캐시에 넣지 않도록 검증 전에 세대를 읽어 둡니다.
+        long generation = tokenCache.generation();
+        Claims claims = extractClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        if (REFRESH_TYPE.equals(claims.get(TOKEN_TYPE, String.class))) {
+            throw new UnsupportedJwtException("refresh 토큰으로는 API 를 호출할 수 없습니다.");
+        }
+
+        AuthUser authUser = new AuthUser(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                UserRole.of(claims.get("userRole", String.class))
+        );
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        VerifiedToken verifiedToken = new VerifiedToken(
+                authUser,
+                issuedAt == null ? 0L : issuedAt.getTime(),
+                expiration == null ? Long.MAX_VALUE : expiration.getTime()
+        );
+
+        // 만료 시각이 없는 토큰은 언제 제거해야 할지 알 수 없으므로 캐시하지 않습니다.
+        if (expiration != null) {
+            tokenCache.put(token, verifiedToken, generation);
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * refresh 토큰을 검증하고 Claims 를 반환합니다.
+     */
+    public Claims extractRefreshClaims(String refreshToken) {
+        Claims claims;
+        try {
+            claims = extractClaims(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new AuthException("유효하지 않은 refresh 토큰입니다.");
+        }
+
+        if (!REFRESH_TYPE.equals(claims.get(TOKEN_TYPE, String.class))) {
+            throw new AuthException("유효하지 않은 refresh 토큰입니다.");
+        }
+        return claims;
     }
 }
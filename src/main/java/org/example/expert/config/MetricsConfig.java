@@ -0,0 +1,124 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.example.expert.client.CircuitBreaker;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.service.TodoDetailCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfig {
+
+    // 검증된 JWT 캐시의 적중/미스 횟수와 크기
+    @Bean
+    public MeterBinder verifiedTokenCacheMetrics(JwtUtil jwtUtil) {
+        VerifiedTokenCache tokenCache = jwtUtil.getTokenCache();
+        return registry -> {
+            FunctionCounter.builder("jwt.token.cache.requests", tokenCache, VerifiedTokenCache::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("jwt.token.cache.requests", tokenCache, VerifiedTokenCache::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            Gauge.builder("jwt.token.cache.size", tokenCache, VerifiedTokenCache::size)
+                    .register(registry);
+        };
+    }
+
+    // todo 단건 조회 캐시의 적중/미스, 제거 횟수와 크기
+    @Bean
+    public MeterBinder todoDetailCacheMetrics(TodoDetailCache todoDetailCache) {
+        return registry -> {
+            FunctionCounter.builder("todo.cache.requests", todoDetailCache, TodoDetailCache::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("todo.cache.requests", todoDetailCache, TodoDetailCache::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("todo.cache.evictions", todoDetailCache, TodoDetailCache::evictionCount)
+                    .register(registry);
+            Gauge.builder("todo.cache.size", todoDetailCache, TodoDetailCache::size)
+                    .register(registry);
+        };
+    }
+
+    // 엔티티 2차 캐시 (유저) 의 적중/미스, 제거 횟수와 크기
+    @Bean
+    public MeterBinder entityCacheMetrics(BoundedCacheRegionFactory cacheRegionFactory) {
+        return registry -> {
+            FunctionCounter.builder("jpa.cache.requests", cacheRegionFactory, BoundedCacheRegionFactory::hitCount)
+                    .tag("result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("jpa.cache.requests", cacheRegionFactory, BoundedCacheRegionFactory::missCount)
+                    .tag("result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("jpa.cache.evictions", cacheRegionFactory, BoundedCacheRegionFactory::evictionCount)
+                    .register(registry);
+            Gauge.builder("jpa.cache.size", cacheRegionFactory, BoundedCacheRegionFactory::size)
+                    .register(registry);
+        };
+    }
+
+    // 비밀번호 해시 전용 풀의 대기열 길이, 실행 중인 작업 수, 거절 횟수와 해시 소요 시간
+    @Bean
+    public MeterBinder passwordEncoderMetrics(PasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("password.hash.queue.size", passwordEncoder, PasswordEncoder::queueSize)
+                    .register(registry);
+            Gauge.builder("password.hash.active", passwordEncoder, PasswordEncoder::activeCount)
+                    .register(registry);
+            FunctionCounter.builder("password.hash.rejected", passwordEncoder, PasswordEncoder::rejectedCount)
+                    .register(registry);
+            FunctionTimer.builder("password.hash", passwordEncoder,
+                            PasswordEncoder::hashCount, PasswordEncoder::hashTotalTimeNanos, TimeUnit.NANOSECONDS)
+                    .register(registry);
+        };
+    }
+
+    // 날씨 피드 주소별 서킷 브레이커 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN) 와 거절 횟수, 추가로 보낸 hedge 요청 수
+    @Bean
+    public MeterBinder weatherClientMetrics(WeatherClient weatherClient) {
+        return registry -> {
+            for (String mirror : weatherClient.getMirrors()) {
+                CircuitBreaker circuitBreaker = weatherClient.circuitBreaker(mirror);
+                Gauge.builder("weather.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                        .tag("mirror", mirror)
+                        .register(registry);
+                FunctionCounter.builder("weather.circuit.rejected", circuitBreaker, CircuitBreaker::rejectedCount)
+                        .tag("mirror", mirror)
+                        .register(registry);
+            }
+            FunctionCounter.builder("weather.hedge.requests", weatherClient, WeatherClient::hedgedRequestCount)
+                    .register(registry);
+            Gauge.builder("weather.hedge.delay", weatherClient, WeatherClient::hedgeDelayMillis)
+                    .baseUnit("milliseconds")
+                    .register(registry);
+        };
+    }
+
+    // RestTemplate 호출 지연시간 (http.client.requests) 을 히스토그램으로 기록합니다.
+    @Bean
+    public MeterFilter httpClientLatencyHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (id.getName().equals("http.client.requests")) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+}
@@ -1,17 +1,221 @@
 package org.example.expert.config;
 
 import at.favre.lib.crypto.bcrypt.BCrypt;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceBusyException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해시는 요청 스레드가 아닌 크기가 제한된 전용 스레드 풀에서 실행합니다.
+ * 로그인이 몰려도 해시에 쓰이는 CPU 는 풀 크기만큼으로 제한되고, 대기열이 가득 차면
+ * 요청 스레드를 붙잡지 않고 바로 {@link ServiceBusyException} 을 던집니다.
+ * <p>
+ * cost 는 모든 서버가 같은 값을 쓰도록 설정으로만 정합니다. 서버마다 측정해서 고르면 서버 사이에 cost 가 달라져
+ * 로그인할 때마다 서로 다른 cost 로 다시 해시하게 됩니다. 측정은 켜 두었을 때 로그로 권장값만 알려 줍니다.
+ */
+@Slf4j(topic = "PasswordEncoder")
 @Component
 public class PasswordEncoder {
 
+    private static final String BUSY_MESSAGE = "요청이 많아 잠시 후 다시 시도해주세요.";
+
+    @Value("${password.hash.threads:0}")
+    private int threads = 0; // 0 이면 CPU 코어 수의 절반
+    @Value("${password.hash.queue-capacity:64}")
+    private int queueCapacity = 64;
+    @Value("${password.hash.timeout-ms:5000}")
+    private long timeoutMillis = 5000;
+    @Value("${password.hash.retry-after-seconds:1}")
+    private long retryAfterSeconds = 1;
+    @Value("${password.hash.cost:10}")
+    private int cost = 10;
+    @Value("${password.hash.calibrate:false}")
+    private boolean calibrate = false; // true 면 기동 시 측정해서 권장 cost 를 로그로 남깁니다.
+    @Value("${password.hash.target-ms:100}")
+    private long targetMillis = 100;
+    @Value("${password.hash.max-cost:14}")
+    private int maxCost = 14;
+
+    private ThreadPoolExecutor executor;
+    private int suggestedCost;
+
+    private final LongAdder rejectedCount = new LongAdder();
+    private final LongAdder hashCount = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        if (calibrate) {
+            suggestedCost = calibrateCost();
+            if (suggestedCost != cost) {
+                log.info("이 호스트의 권장 BCrypt cost 는 {} 입니다 (목표 {}ms, 설정 {}). 모든 서버의 password.hash.cost 를 함께 바꾸세요.",
+                        suggestedCost, targetMillis, cost);
+            }
+        }
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
     public String encode(String rawPassword) {
-        return BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, rawPassword.toCharArray());
+        return execute(() -> hash(rawPassword));
     }
 
     public boolean matches(String rawPassword, String encodedPassword) {
-        BCrypt.Result result = BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword);
-        return result.verified;
+        return execute(() -> BCrypt.verifyer().verify(rawPassword.toCharArray(), encodedPassword).verified);
+    }
+
+    /**
+     * 해시 풀에서 비밀번호를 해시하고 기다리지 않습니다. 풀이 가득 차면 {@link ServiceBusyException} 으로 실패한 future 를 반환합니다.
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timed(() -> hash(rawPassword)), executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            return CompletableFuture.failedFuture(new ServiceBusyException(BUSY_MESSAGE, retryAfterSeconds));
+        }
+    }
+
+    /**
+     * 저장된 해시의 cost 가 설정된 cost 보다 낮으면 true 를 반환합니다.
+     * cost 를 올리는 중에 두 값이 섞여 있어도 더 높은 cost 의 해시를 낮추지 않습니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        // $2a$10$... 형식에서 cost 는 4~5번째 문자입니다.
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) < cost;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    public int cost() {
+        return cost;
+    }
+
+    /**
+     * 기동 시 측정한 권장 cost. 측정하지 않았으면 0 입니다.
+     */
+    public int suggestedCost() {
+        return suggestedCost;
+    }
+
+    public int queueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public long rejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public long hashCount() {
+        return hashCount.sum();
+    }
+
+    public double hashTotalTimeNanos() {
+        return hashNanos.sum();
+    }
+
+    private String hash(String rawPassword) {
+        return BCrypt.withDefaults().hashToString(cost, rawPassword.toCharArray());
+    }
+
+    // cost 가 1 오를 때마다 해시 시간은 두 배가 되므로, 다음 cost 가 목표를 넘기 직전까지 올립니다.
+    private int calibrateCost() {
+        char[] sample = "calibration-password".toCharArray();
+        BCrypt.withDefaults().hash(BCrypt.MIN_COST, sample); // JIT 예열
+
+        long targetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        int candidate = BCrypt.MIN_COST;
+        long elapsed = measure(candidate, sample);
+        while (candidate < maxCost && elapsed * 2 <= targetNanos) {
+            candidate++;
+            elapsed = measure(candidate, sample);
+        }
+        return candidate;
+    }
+
+    private long measure(int candidateCost, char[] sample) {
+        long start = System.nanoTime();
+        BCrypt.withDefaults().hash(candidateCost, sample);
+        return System.nanoTime() - start;
+    }
+
+    private <T> T timed(Supplier<T> task) {
+        long start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            hashNanos.add(System.nanoTime() - start);
+            hashCount.increment();
+        }
+    }
+
+    private <T> T execute(Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(task));
+        } catch (RejectedExecutionException e) {
+            rejectedCount.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE, retryAfterSeconds);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기열에서 오래 기다린 작업은 응답을 받을 사람이 없으므로 실행하지 않습니다.
+            future.cancel(true);
+            rejectedCount.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException("비밀번호 처리 중 인터럽트가 발생했습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException("비밀번호 처리에 실패했습니다.");
+        }
     }
 }
@@ -1,9 +1,56 @@
 package org.example.expert.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import javax.sql.DataSource;
+
 @Configuration
 @EnableJpaAuditing
 public class PersistenceConfig {
+
+    /**
+     * 엔티티 id 를 id_blocks 테이블에서 100개 단위로 미리 받아오므로 insert 를 flush 때까지 모아 JDBC batch 로 보낼 수 있습니다.
+     * insert/update 를 엔티티 종류별로 정렬해 todo, 담당자, 댓글이 섞여 있어도 같은 statement 끼리 묶이게 합니다.
+     * spring.jpa.properties 로 지정한 값이 있으면 그 값을 사용합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    /**
+     * 스키마가 만들어진 뒤 id_blocks 를 기존 데이터의 max(id) 뒤로 맞추도록 EntityManagerFactory 다음에 초기화합니다.
+     */
+    @Bean
+    @DependsOn("entityManagerFactory")
+    public IdBlockInitializer idBlockInitializer(DataSource dataSource) {
+        return new IdBlockInitializer(dataSource);
+    }
+
+    /**
+     * {@code @Cache} 를 붙인 엔티티만 프로세스 안의 크기 제한 캐시에 둡니다. (JPA 기본값 ENABLE_SELECTIVE)
+     */
+    @Bean
+    public BoundedCacheRegionFactory cacheRegionFactory(@Value("${jpa.cache.max-entries:10000}") int maxEntries,
+                                                        @Value("${jpa.cache.ttl:600000}") long ttlMillis) {
+        return new BoundedCacheRegionFactory(maxEntries, ttlMillis);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(BoundedCacheRegionFactory cacheRegionFactory) {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.CACHE_REGION_FACTORY, cacheRegionFactory);
+            properties.putIfAbsent(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+        };
+    }
 }
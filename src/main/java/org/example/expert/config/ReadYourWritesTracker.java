@@ -0,0 +1,97 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저가 마지막으로 쓰기 트랜잭션을 커밋한 시각을 기억합니다.
+ * 그 뒤 일정 시간 동안은 복제가 늦어도 방금 쓴 내용을 읽을 수 있도록 그 유저의 읽기를 primary 로 보냅니다.
+ * 유저는 JwtFilter 가 현재 요청에 담아둔 {@link AuthUser} 로 구분하며, 요청 밖의 스레드에서는 아무것도 하지 않습니다.
+ */
+public class ReadYourWritesTracker {
+
+    // 이 수를 넘으면 기록할 때 만료된 항목을 정리합니다.
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Clock clock;
+    // userId -> primary 에서 읽어야 하는 마지막 시각
+    private final Map<Long, Long> primaryUntil = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(long windowMillis) {
+        this(windowMillis, Clock.systemUTC());
+    }
+
+    public ReadYourWritesTracker(long windowMillis, Clock clock) {
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 유저의 쓰기를 트랜잭션이 커밋된 뒤에 기록합니다. 롤백되면 기록하지 않습니다.
+     */
+    public void recordWrite() {
+        Long userId = currentUserId();
+        if (userId == null || windowMillis <= 0) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(userId);
+                }
+            });
+        } else {
+            record(userId);
+        }
+    }
+
+    /**
+     * 현재 유저가 최근에 쓰기를 했다면 true 를 반환합니다.
+     */
+    public boolean isRecentWriter() {
+        Long userId = currentUserId();
+        if (userId == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until <= clock.millis()) {
+            primaryUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+
+    public int size() {
+        return primaryUntil.size();
+    }
+
+    private void record(Long userId) {
+        long now = clock.millis();
+        primaryUntil.put(userId, now + windowMillis);
+        if (primaryUntil.size() > CLEANUP_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until <= now);
+        }
+    }
+
+    private Long currentUserId() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object authUser = attributes.getAttribute(AuthUser.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return authUser instanceof AuthUser user ? user.getId() : null;
+    }
+}
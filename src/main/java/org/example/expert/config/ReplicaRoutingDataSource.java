@@ -0,0 +1,110 @@
+package org.example.expert.config;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 replica 들에 돌아가며 보내고, 나머지는 primary 로 보냅니다.
+ * <p>
+ * 트랜잭션 매니저는 readOnly 여부를 현재 트랜잭션에 표시하기 전에 커넥션을 먼저 얻으므로,
+ * {@link LazyConnectionDataSourceProxy} 로 실제 커넥션을 첫 SQL 실행 때까지 미뤄 그 시점에 대상을 고릅니다.
+ * 최근에 쓰기를 한 유저의 읽기는 {@link ReadYourWritesTracker} 에 따라 primary 로 보냅니다.
+ * <p>
+ * replica 마다 복제 지연이 다르므로, 한 요청 안의 읽기는 처음 고른 replica 하나에서만 실행해
+ * 같은 요청에서 읽은 값끼리 시점이 뒤섞이지 않게 합니다.
+ */
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA_PREFIX = "replica-";
+    // 요청에 고정한 replica 를 담아두는 request attribute 이름
+    static final String REPLICA_ATTRIBUTE = ReplicaRoutingDataSource.class.getName() + ".replica";
+
+    private final List<DataSource> dataSources = new ArrayList<>();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+        super(router(primary, replicas, tracker));
+        dataSources.add(primary);
+        dataSources.addAll(replicas);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static DataSource router(DataSource primary, List<DataSource> replicas, ReadYourWritesTracker tracker) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replica 가 하나 이상 필요합니다.");
+        }
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+
+        Router router = new Router(replicas.size(), tracker);
+        router.setTargetDataSources(targets);
+        router.setDefaultTargetDataSource(primary);
+        router.setLenientFallback(false);
+        router.afterPropertiesSet();
+        return router;
+    }
+
+    private static class Router extends AbstractRoutingDataSource {
+
+        private final int replicaCount;
+        private final ReadYourWritesTracker tracker;
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        Router(int replicaCount, ReadYourWritesTracker tracker) {
+            this.replicaCount = replicaCount;
+            this.tracker = tracker;
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                    tracker.recordWrite();
+                }
+                return PRIMARY;
+            }
+            if (tracker.isRecentWriter()) {
+                return PRIMARY;
+            }
+
+            RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+            if (attributes == null) {
+                return nextReplica();
+            }
+            Object pinned = attributes.getAttribute(REPLICA_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (pinned != null) {
+                return pinned;
+            }
+            String replica = nextReplica();
+            attributes.setAttribute(REPLICA_ATTRIBUTE, replica, RequestAttributes.SCOPE_REQUEST);
+            return replica;
+        }
+
+        private String nextReplica() {
+            return REPLICA_PREFIX + Math.floorMod(sequence.getAndIncrement(), replicaCount);
+        }
+    }
+}
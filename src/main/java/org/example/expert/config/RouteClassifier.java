@@ -0,0 +1,29 @@
+package org.example.expert.config;
+
+/**
+ * 요청 URI 를 인증 방식에 따라 분류합니다.
+ * 접두사 목록은 미리 만들어 두고 요청마다 순서대로 비교만 합니다.
+ */
+public final class RouteClassifier {
+
+    public enum Route {
+        PUBLIC,   // 토큰 없이 접근 가능
+        ADMIN,    // 관리자 권한 필요
+        USER      // 로그인한 유저
+    }
+
+    private static final String[] PREFIXES = {"/auth", "/admin"};
+    private static final Route[] ROUTES = {Route.PUBLIC, Route.ADMIN};
+
+    private RouteClassifier() {
+    }
+
+    public static Route classify(String uri) {
+        for (int i = 0; i < PREFIXES.length; i++) {
+            if (uri.startsWith(PREFIXES[i])) {
+                return ROUTES[i];
+            }
+        }
+        return Route.USER;
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+
+/**
+ * 서명 검증을 마친 access 토큰
+ * 폐기 여부 확인에 필요한 발급 시각(iat)과 캐시 만료에 쓰는 만료 시각(exp)을 함께 담습니다.
+ */
+public record VerifiedToken(AuthUser authUser, long issuedAt, long expiresAt) {
+}
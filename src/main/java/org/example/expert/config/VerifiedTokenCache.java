@@ -0,0 +1,140 @@
+package org.example.expert.config;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증을 통과한 JWT 를 토큰 만료 시각까지 보관하는 캐시
+ * 토큰 원문 대신 SHA-256 digest 를 키로 사용하고, 최대 개수에 이르면 만료된 항목부터 정리합니다.
+ * 정리는 한 번에 최대 개수의 90% 까지 줄이므로 전체를 훑는 비용은 가득 찰 때마다가 아니라 여러 put 에 한 번만 듭니다.
+ * <p>
+ * 항목에는 검증을 시작할 때의 세대 번호를 붙입니다. 키 교체로 {@link #invalidateAll()} 이 세대를 올리면
+ * 그 전에 시작한 검증 결과는 늦게 put 되더라도 저장하지 않고, 남아 있는 항목도 get 에서 버립니다.
+ */
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    });
+
+    private final int maxSize;
+    private final int evictTarget;
+    private final Clock clock;
+    private final ConcurrentHashMap<TokenDigest, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    // 정리는 한 스레드만 합니다. 그동안 다른 스레드의 put 으로 잠시 최대 개수를 넘을 수 있습니다.
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(int maxSize) {
+        this(maxSize, Clock.systemUTC());
+    }
+
+    public VerifiedTokenCache(int maxSize, Clock clock) {
+        this.maxSize = maxSize;
+        this.evictTarget = maxSize - Math.max(1, maxSize / 10);
+        this.clock = clock;
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환합니다. 없거나 만료된 경우 null 을 반환합니다.
+     */
+    public VerifiedToken get(String token) {
+        TokenDigest digest = TokenDigest.of(token);
+        Entry entry = entries.get(digest);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.generation() != generation.get() || entry.token().expiresAt() <= clock.millis()) {
+            entries.remove(digest, entry);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.token();
+    }
+
+    /**
+     * 검증을 시작하기 전에 읽어 두었다가 {@link #put(String, VerifiedToken, long)} 에 넘깁니다.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 검증을 시작한 뒤 키가 교체되었으면(세대가 바뀌었으면) 저장하지 않습니다.
+     */
+    public void put(String token, VerifiedToken verifiedToken, long verifiedGeneration) {
+        long now = clock.millis();
+        if (verifiedToken.expiresAt() <= now || verifiedGeneration != generation.get()) {
+            return;
+        }
+
+        if (entries.size() >= maxSize && evicting.compareAndSet(false, true)) {
+            try {
+                evict(now);
+            } finally {
+                evicting.set(false);
+            }
+        }
+        entries.put(TokenDigest.of(token), new Entry(verifiedToken, verifiedGeneration));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        long current = generation.get();
+        entries.values().removeIf(entry -> entry.generation() != current || entry.token().expiresAt() <= now);
+
+        // 만료된 항목을 정리해도 목표보다 많다면 임의의 항목을 제거합니다.
+        Iterator<TokenDigest> iterator = entries.keySet().iterator();
+        while (entries.size() > evictTarget && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(VerifiedToken token, long generation) {
+    }
+
+    private record TokenDigest(long first, long second, long third, long fourth) {
+
+        static TokenDigest of(String token) {
+            byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+            ByteBuffer buffer = ByteBuffer.wrap(hash);
+            return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+    }
+}
@@ -5,8 +5,10 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.EntityResponser;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.service.AuthService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -31,4 +33,10 @@ public class AuthController {
         SigninResponse signin = authService.signin(signinRequest);
         return EntityResponser.responser(signin, HttpStatus.OK);
     }
+
+    @PostMapping("/auth/refresh")
+    public ResponseEntity<TokenRefreshResponse> refresh(@Valid @RequestBody TokenRefreshRequest tokenRefreshRequest) {
+        TokenRefreshResponse refresh = authService.refresh(tokenRefreshRequest);
+        return EntityResponser.responser(refresh, HttpStatus.OK);
+    }
 }
@@ -0,0 +1,15 @@
+package org.example.expert.domain.auth.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TokenRefreshResponse {
+
+    private final String bearerToken;
+    private final String refreshToken;
+
+    public TokenRefreshResponse(String bearerToken, String refreshToken) {
+        this.bearerToken = bearerToken;
+        this.refreshToken = refreshToken;
+    }
+}
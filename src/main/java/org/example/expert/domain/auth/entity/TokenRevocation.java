@@ -0,0 +1,33 @@
+package org.example.expert.domain.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 토큰 폐기 시각
+ * revokedAt 이전에 발급된 토큰은 만료 전이라도 거부합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "token_revocations")
+public class TokenRevocation {
+
+    @Id
+    private Long userId;
+    @Column(nullable = false)
+    private long revokedAt; // epoch millis
+
+    public TokenRevocation(Long userId, long revokedAt) {
+        this.userId = userId;
+        this.revokedAt = revokedAt;
+    }
+
+    public void revokeAt(long revokedAt) {
+        this.revokedAt = revokedAt;
+    }
+}
@@ -1,20 +1,24 @@
 package org.example.expert.domain.auth.service;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -22,8 +26,9 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
 
-    @Transactional
+    // BCrypt 를 기다리는 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 없이 repository 호출만 각자 짧은 트랜잭션으로 실행합니다.
     public SignupResponse signup(SignupRequest signupRequest) {
 
         if (userRepository.existsByEmail(signupRequest.getEmail())) {
@@ -42,13 +47,18 @@ public class AuthService {
         User savedUser = userRepository.save(newUser);
 
         String bearerToken = jwtUtil.createToken(savedUser.getId(), savedUser.getEmail(), userRole);
+        String refreshToken = jwtUtil.createRefreshToken(savedUser.getId());
 
-        return new SignupResponse(bearerToken);
+        return new SignupResponse(bearerToken, refreshToken);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 로그인은 일부러 2차 캐시를 거치지 않고 primary 에서 유저를 읽습니다.
+     * 캐시는 서버마다 따로 있어, 다른 서버에서 바꾼 비밀번호나 권한이 ttl 동안 보이지 않을 수 있기 때문입니다.
+     * 로그인은 BCrypt 검증이 비용의 대부분이라 조회 한 번을 아껴도 얻는 것이 적습니다.
+     */
     public SigninResponse signin(SigninRequest signinRequest) {
-        User user = userRepository.findByEmail(signinRequest.getEmail()).orElseThrow(
+        User user = userRepository.findCredentialsByEmail(signinRequest.getEmail()).orElseThrow(
                 () -> new InvalidRequestException("가입되지 않은 유저입니다."));
 
         // 로그인 시 이메일과 비밀번호가 일치하지 않을 경우 401을 반환합니다.
@@ -56,8 +66,42 @@ public class AuthService {
             throw new AuthException("잘못된 비밀번호입니다.");
         }
 
+        if (passwordEncoder.needsRehash(user.getPassword())) {
+            upgradePasswordHash(user.getId(), signinRequest.getPassword(), user.getPassword());
+        }
+
+        String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = jwtUtil.createRefreshToken(user.getId());
+
+        return new SigninResponse(bearerToken, refreshToken);
+    }
+
+    public TokenRefreshResponse refresh(TokenRefreshRequest tokenRefreshRequest) {
+        Claims claims = jwtUtil.extractRefreshClaims(tokenRefreshRequest.getRefreshToken());
+        long userId = Long.parseLong(claims.getSubject());
+
+        if (tokenRevocationService.isRevoked(userId, claims.getIssuedAt().getTime())) {
+            throw new AuthException("폐기된 refresh 토큰입니다.");
+        }
+
+        // 권한이 바뀌었을 수 있으므로 토큰이 아닌 DB 의 유저 정보로 새 토큰을 발급합니다.
+        User user = userRepository.findCredentialsById(userId).orElseThrow(
+                () -> new AuthException("가입되지 않은 유저입니다."));
+
         String bearerToken = jwtUtil.createToken(user.getId(), user.getEmail(), user.getUserRole());
+        String refreshToken = jwtUtil.createRefreshToken(user.getId());
+
+        return new TokenRefreshResponse(bearerToken, refreshToken);
+    }
 
-        return new SigninResponse(bearerToken);
+    // 설정된 cost 보다 낮은 해시는 로그인 응답을 기다리게 하지 않고 해시 풀에서 다시 만듭니다.
+    private void upgradePasswordHash(Long userId, String rawPassword, String oldPassword) {
+        passwordEncoder.encodeAsync(rawPassword)
+                .thenAccept(newPassword -> userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword))
+                .exceptionally(e -> {
+                    // 실패해도 다음 로그인에서 다시 시도합니다.
+                    log.warn("비밀번호 해시 갱신 실패 userId={}: {}", userId, e.getMessage());
+                    return null;
+                });
     }
 }
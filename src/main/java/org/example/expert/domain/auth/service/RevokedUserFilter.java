@@ -0,0 +1,65 @@
+package org.example.expert.domain.auth.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 폐기 이력이 있는 유저 id 를 담는 Bloom filter
+ * mightContain 이 false 면 확실히 폐기 이력이 없으므로 폐기 테이블을 볼 필요가 없습니다.
+ * 불변 객체이며 추가할 때마다 비트 배열을 복사합니다. (폐기는 드물고 배열은 8KB 입니다)
+ */
+final class RevokedUserFilter {
+
+    private static final int BITS = 1 << 16;
+    private static final int HASHES = 4;
+
+    private final long[] words;
+
+    private RevokedUserFilter(long[] words) {
+        this.words = words;
+    }
+
+    static RevokedUserFilter of(Collection<Long> userIds) {
+        long[] words = new long[BITS / Long.SIZE];
+        for (Long userId : userIds) {
+            set(words, userId);
+        }
+        return new RevokedUserFilter(words);
+    }
+
+    RevokedUserFilter with(long userId) {
+        long[] copy = Arrays.copyOf(words, words.length);
+        set(copy, userId);
+        return new RevokedUserFilter(copy);
+    }
+
+    boolean mightContain(long userId) {
+        long hash = mix(userId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & (BITS - 1);
+            if ((words[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void set(long[] words, long userId) {
+        long hash = mix(userId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (h1 + i * h2) & (BITS - 1);
+            words[bit >>> 6] |= 1L << bit;
+        }
+    }
+
+    // 연속된 id 가 비트 배열에 고르게 퍼지도록 섞습니다. (SplitMix64 finalizer)
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
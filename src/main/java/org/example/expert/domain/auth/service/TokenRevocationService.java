@@ -0,0 +1,111 @@
+package org.example.expert.domain.auth.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유저 단위 토큰 폐기
+ * 폐기 기록은 token_revocations 테이블에 남기고, 요청마다 하는 확인은 메모리의 Bloom filter 와 폐기 테이블 사본으로만 합니다.
+ * 다른 노드에서 폐기한 기록은 주기적으로 테이블을 다시 읽어 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final TokenRevocationRepository tokenRevocationRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(RevokedUserFilter.of(List.of()), Map.of());
+
+    @PostConstruct
+    public void load() {
+        reload();
+    }
+
+    /**
+     * issuedAt 이전에 폐기된 유저의 토큰인지 확인합니다. DB 에 접근하지 않습니다.
+     */
+    public boolean isRevoked(long userId, long issuedAt) {
+        Snapshot current = snapshot;
+        if (!current.filter().mightContain(userId)) {
+            return false;
+        }
+
+        Long revokedAt = current.revokedAt().get(userId);
+        return revokedAt != null && issuedAt < revokedAt;
+    }
+
+    /**
+     * 지금까지 발급된 해당 유저의 access/refresh 토큰을 모두 폐기합니다.
+     */
+    @Transactional
+    public void revoke(long userId) {
+        // JWT 의 iat 는 초 단위로 내려 저장되므로, 폐기 직전 같은 초에 발급된 토큰도 막히도록 다음 초로 올립니다.
+        // 폐기 직후 같은 초 안에 새로 발급한 토큰도 함께 막히지만, 1초 안에 다시 로그인하면 됩니다.
+        long revokedAt = (System.currentTimeMillis() / 1000 + 1) * 1000;
+
+        tokenRevocationRepository.findById(userId).ifPresentOrElse(
+                revocation -> revocation.revokeAt(revokedAt),
+                () -> tokenRevocationRepository.save(new TokenRevocation(userId, revokedAt))
+        );
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(userId, revokedAt);
+                }
+            });
+        } else {
+            apply(userId, revokedAt);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-interval:30000}", initialDelayString = "${jwt.revocation.sync-interval:30000}")
+    public void sync() {
+        // refresh 토큰 수명이 지난 기록은 더 이상 막을 토큰이 없으므로 정리합니다.
+        tokenRevocationRepository.deleteRevokedBefore(System.currentTimeMillis() - JwtUtil.REFRESH_TOKEN_TIME);
+        reload();
+    }
+
+    private synchronized void apply(long userId, long revokedAt) {
+        Snapshot current = snapshot;
+        Map<Long, Long> revoked = new HashMap<>(current.revokedAt());
+        revoked.merge(userId, revokedAt, Math::max);
+        snapshot = new Snapshot(current.filter().with(userId), Map.copyOf(revoked));
+    }
+
+    private synchronized void reload() {
+        long cutoff = System.currentTimeMillis() - JwtUtil.REFRESH_TOKEN_TIME;
+
+        Map<Long, Long> revoked = new HashMap<>();
+        for (TokenRevocation revocation : tokenRevocationRepository.findAll()) {
+            revoked.put(revocation.getUserId(), revocation.getRevokedAt());
+        }
+        // 읽는 도중 커밋된 이 노드의 폐기 기록이 사라지지 않도록 메모리 사본과 합칩니다.
+        snapshot.revokedAt().forEach((userId, revokedAt) -> {
+            if (revokedAt >= cutoff) {
+                revoked.merge(userId, revokedAt, Math::max);
+            }
+        });
+
+        snapshot = new Snapshot(RevokedUserFilter.of(revoked.keySet()), Map.copyOf(revoked));
+        log.debug("토큰 폐기 목록을 불러왔습니다. 유저 수: {}", revoked.size());
+    }
+
+    private record Snapshot(RevokedUserFilter filter, Map<Long, Long> revokedAt) {
+    }
+}
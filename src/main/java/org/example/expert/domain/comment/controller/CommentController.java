@@ -9,9 +9,11 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,9 +33,15 @@ public class CommentController {
         return EntityResponser.responser(commentSaveResponse, HttpStatus.CREATED);
     }
 
+    // 댓글 목록이 바뀌지 않았으면 목록을 읽지 않고 304 로 응답합니다.
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId, WebRequest request) {
+        ResourceVersion version = commentService.getCommentsVersion(todoId);
+        if (request.checkNotModified(version.eTag(), version.lastModified())) {
+            return null;
+        }
+
         List<CommentResponse> comments = commentService.getComments(todoId);
-        return EntityResponser.responser(comments, HttpStatus.OK);
+        return EntityResponser.versionedResponser(comments, version);
     }
 }
@@ -1,9 +1,13 @@
 package org.example.expert.domain.comment.repository;
 
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.CollectionVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,4 +15,19 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
     List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.common.dto.CollectionVersion(count(c), max(c.modifiedAt)) " +
+            "FROM Comment c WHERE c.todo.id = :todoId")
+    CollectionVersion findVersionByTodoId(@Param("todoId") Long todoId);
+
+    // 삭제할 id 를 chunk 단위로 읽습니다. 각 chunk 는 deleteByIds 의 짧은 트랜잭션에서 지웁니다.
+    // 이미 지운 행이 지연된 replica 에서 다시 읽히지 않도록 읽기 전용이 아닌 트랜잭션으로 primary 에서 읽습니다.
+    @Transactional
+    @Query("SELECT x.id FROM Comment x WHERE x.todo.id = :todoId")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Comment x WHERE x.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
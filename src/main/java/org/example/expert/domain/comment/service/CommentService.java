@@ -7,6 +7,7 @@ import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
@@ -46,6 +47,12 @@ public class CommentService {
         );
     }
 
+    // 조건부 GET 용 버전: 댓글 수와 가장 최근 수정 시각
+    @Transactional(readOnly = true)
+    public ResourceVersion getCommentsVersion(long todoId) {
+        return ResourceVersion.of("comments-" + todoId, commentRepository.findVersionByTodoId(todoId));
+    }
+
     @Transactional(readOnly = true)
     public List<CommentResponse> getComments(long todoId) {
         List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
@@ -0,0 +1,10 @@
+package org.example.expert.domain.common.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록의 버전: 항목 수와 가장 최근 modifiedAt
+ * 항목이 추가/수정되면 lastModifiedAt 이, 삭제되면 count 가 바뀝니다.
+ */
+public record CollectionVersion(Long count, LocalDateTime lastModifiedAt) {
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.common.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET 에 쓰는 ETag 와 Last-Modified (epoch millis)
+ */
+public record ResourceVersion(String eTag, long lastModified) {
+
+    /**
+     * 단건 리소스: modifiedAt 이 같으면 응답 본문도 같으므로 strong ETag 를 씁니다.
+     */
+    public static ResourceVersion of(String name, LocalDateTime modifiedAt) {
+        long lastModified = toEpochMilli(modifiedAt);
+        return new ResourceVersion("\"" + name + "-" + lastModified + "\"", lastModified);
+    }
+
+    /**
+     * 목록: 항목 수와 최근 수정 시각으로만 구분하므로 weak ETag 를 씁니다.
+     */
+    public static ResourceVersion of(String name, CollectionVersion version) {
+        long lastModified = version.lastModifiedAt() == null ? 0 : toEpochMilli(version.lastModifiedAt());
+        return new ResourceVersion("W/\"" + name + "-" + version.count() + "-" + lastModified + "\"", lastModified);
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceBusyException extends RuntimeException {
+
+    // 클라이언트가 다시 시도하기까지 기다릴 시간 (초)
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
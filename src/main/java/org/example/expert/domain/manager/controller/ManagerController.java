@@ -1,12 +1,11 @@
 package org.example.expert.domain.manager.controller;
 
-import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.config.EntityResponser;
-import org.example.expert.config.JwtUtil;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
@@ -14,15 +13,16 @@ import org.example.expert.domain.manager.service.ManagerService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Optional;
 
 @RestController
 @RequiredArgsConstructor
 public class ManagerController {
 
     private final ManagerService managerService;
-    private final JwtUtil jwtUtil;
 
     @PostMapping("/todos/{todoId}/managers")
     public ResponseEntity<ManagerSaveResponse> saveManager(
@@ -34,21 +34,26 @@ public class ManagerController {
         return EntityResponser.responser(managerSaveResponse, HttpStatus.CREATED);
     }
 
+    // 담당자 목록이 바뀌지 않았으면 목록을 읽지 않고 304 로 응답합니다.
     @GetMapping("/todos/{todoId}/managers")
-    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId) {
+    public ResponseEntity<List<ManagerResponse>> getMembers(@PathVariable long todoId, WebRequest request) {
+        Optional<ResourceVersion> version = managerService.getManagersVersion(todoId);
+        if (version.isPresent() && request.checkNotModified(version.get().eTag(), version.get().lastModified())) {
+            return null;
+        }
+
         List<ManagerResponse> managers = managerService.getManagers(todoId);
-        return EntityResponser.responser(managers, HttpStatus.OK);
+        return version.map(current -> EntityResponser.versionedResponser(managers, current))
+                .orElseGet(() -> EntityResponser.responser(managers, HttpStatus.OK));
     }
 
     @DeleteMapping("/todos/{todoId}/managers/{managerId}")
     public ResponseEntity<Void> deleteManager(
-            @RequestHeader("Authorization") String bearerToken,
+            @Auth AuthUser authUser,
             @PathVariable long todoId,
             @PathVariable long managerId
     ) {
-        Claims claims = jwtUtil.extractClaims(bearerToken.substring(7));
-        long userId = Long.parseLong(claims.getSubject());
-        managerService.deleteManager(userId, todoId, managerId);
+        managerService.deleteManager(authUser.getId(), todoId, managerId);
         return EntityResponser.voidResponser(HttpStatus.OK);
     }
 }
@@ -3,16 +3,22 @@ package org.example.expert.domain.manager.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.entity.TodoCacheListener;
 import org.example.expert.domain.user.entity.User;
 
 @Getter
 @Entity
 @NoArgsConstructor
+@EntityListeners(TodoCacheListener.class)
 @Table(name = "managers")
-public class Manager {
+public class Manager extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "manager_id")
+    @TableGenerator(name = "manager_id", table = "id_blocks", pkColumnName = "entity", valueColumnName = "next_val",
+            pkColumnValue = "managers", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
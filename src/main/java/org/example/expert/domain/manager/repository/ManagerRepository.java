@@ -1,13 +1,32 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.CollectionVersion;
 import org.example.expert.domain.manager.entity.Manager;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
     @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
     List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+
+    @Query("SELECT new org.example.expert.domain.common.dto.CollectionVersion(count(m), max(m.modifiedAt)) " +
+            "FROM Manager m WHERE m.todo.id = :todoId")
+    CollectionVersion findVersionByTodoId(@Param("todoId") Long todoId);
+
+    // 삭제할 id 를 chunk 단위로 읽습니다. 각 chunk 는 deleteByIds 의 짧은 트랜잭션에서 지웁니다.
+    // 이미 지운 행이 지연된 replica 에서 다시 읽히지 않도록 읽기 전용이 아닌 트랜잭션으로 primary 에서 읽습니다.
+    @Transactional
+    @Query("SELECT x.id FROM Manager x WHERE x.todo.id = :todoId")
+    List<Long> findIdsByTodoId(@Param("todoId") Long todoId, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Manager x WHERE x.id IN :ids")
+    int deleteByIds(@Param("ids") List<Long> ids);
 }
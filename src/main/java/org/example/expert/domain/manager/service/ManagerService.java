@@ -2,6 +2,8 @@ package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CollectionVersion;
+import org.example.expert.domain.common.dto.ResourceVersion;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
 import org.example.expert.domain.manager.dto.response.ManagerResponse;
@@ -60,6 +62,19 @@ public class ManagerService {
         );
     }
 
+    /**
+     * 조건부 GET 용 버전: 담당자 수와 가장 최근 수정 시각
+     * todo 에는 작성자가 항상 담당자로 있으므로 담당자가 없으면 todo 가 없는 것으로 보고 empty 를 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getManagersVersion(long todoId) {
+        CollectionVersion version = managerRepository.findVersionByTodoId(todoId);
+        if (version.count() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(ResourceVersion.of("managers-" + todoId, version));
+    }
+
     @Transactional(readOnly = true)
     public List<ManagerResponse> getManagers(long todoId) {
         Todo todo = todoRepository.findById(todoId)
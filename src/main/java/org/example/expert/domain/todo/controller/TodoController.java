@@ -5,20 +5,34 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.config.EntityResponser;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.enums.TodoCountMode;
+import org.example.expert.domain.todo.service.TodoExportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -29,18 +43,85 @@ public class TodoController {
         return EntityResponser.responser(todoSaveResponse, HttpStatus.CREATED);
     }
 
+    @PostMapping("/todos/batch")
+    public ResponseEntity<TodoBatchSaveResponse> saveTodos(
+            @Auth AuthUser authUser,
+            @Valid @RequestBody TodoBatchSaveRequest todoBatchSaveRequest
+    ) {
+        TodoBatchSaveResponse todoBatchSaveResponse = todoService.saveTodos(authUser, todoBatchSaveRequest);
+        return EntityResponser.responser(todoBatchSaveResponse, HttpStatus.CREATED);
+    }
+
     @GetMapping("/todos")
     public ResponseEntity<Page<TodoResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeContents,
+            @RequestParam(defaultValue = "false") boolean includeCounts
+    ) {
+        Page<TodoResponse> todos = todoService.getTodos(page, size, includeContents, includeCounts);
+        return EntityResponser.responser(todos, HttpStatus.OK);
+    }
+
+    // count 파라미터를 주면 전체 개수를 구하는 방법을 고를 수 있습니다. (exact, approximate, none)
+    @GetMapping(value = "/todos", params = "count")
+    public ResponseEntity<TodoPageResponse> getTodoPage(
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "true") boolean includeContents,
+            @RequestParam(defaultValue = "false") boolean includeCounts,
+            @RequestParam String count
+    ) {
+        TodoPageResponse todos = todoService.getTodoPage(page, size, includeContents, includeCounts, TodoCountMode.of(count));
+        return EntityResponser.responser(todos, HttpStatus.OK);
+    }
+
+    // 커서 기반 조회: 전체 개수 없이 다음 페이지를 가리키는 nextCursor 만 반환합니다.
+    @GetMapping("/todos/cursor")
+    public ResponseEntity<TodoCursorResponse> getTodosByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        TodoCursorResponse todos = todoService.getTodosByCursor(cursor, size);
+        return EntityResponser.responser(todos, HttpStatus.OK);
+    }
+
+    @DeleteMapping("/todos/{todoId}")
+    public ResponseEntity<Void> deleteTodo(
+            @Auth AuthUser authUser,
+            @PathVariable long todoId
+    ) {
+        todoService.deleteTodo(authUser, todoId);
+        return EntityResponser.voidResponser(HttpStatus.OK);
+    }
+
+    // 모든 todo 를 한 줄에 하나씩 JSON 으로 스트리밍합니다. 응답은 요청 스레드가 아닌 비동기 스레드에서 씁니다.
+    @GetMapping("/todos/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos() {
+        StreamingResponseBody body = todoExportService::export;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping("/todos/search")
+    public ResponseEntity<List<TodoSearchResponse>> searchTodos(
+            @RequestParam String q,
             @RequestParam(defaultValue = "10") int size
     ) {
-        Page<TodoResponse> todos = todoService.getTodos(page, size);
+        List<TodoSearchResponse> todos = todoService.searchTodos(q, size);
         return EntityResponser.responser(todos, HttpStatus.OK);
     }
 
+    // 캐시된 응답의 modifiedAt 으로 ETag 와 Last-Modified 를 만들고, 요청의 버전과 같으면 본문 없이 304 로 응답합니다.
+    // 캐시에 없을 때만 DB 를 읽습니다.
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest request) {
         TodoResponse todo = todoService.getTodo(todoId);
-        return EntityResponser.responser(todo, HttpStatus.OK);
+        ResourceVersion version = ResourceVersion.of("todo-" + todoId, todo.getModifiedAt());
+        if (request.checkNotModified(version.eTag(), version.lastModified())) {
+            return null;
+        }
+        return EntityResponser.versionedResponser(todo, version);
     }
 }
@@ -0,0 +1,42 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.config.EntityResponser;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * 관리자용 todo/댓글 가져오기입니다.
+ * 본문 스트림을 그대로 넘겨 읽으므로 {@code @AdminLogging} 으로 요청 본문을 직렬화해 남기지 않습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class TodoImportController {
+
+    private final TodoImportService todoImportService;
+
+    @PostMapping(value = "/admin/imports", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body
+    ) {
+        TodoImportResponse todoImportResponse = todoImportService.importTodos(contentType, body);
+        return EntityResponser.responser(todoImportResponse, HttpStatus.OK);
+    }
+
+    @GetMapping("/admin/imports")
+    public ResponseEntity<List<TodoImportResponse>> getImports() {
+        return EntityResponser.responser(todoImportService.getImports(), HttpStatus.OK);
+    }
+}
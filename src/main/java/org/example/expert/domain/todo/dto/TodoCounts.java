@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.dto;
+
+/**
+ * todo 하나의 댓글 수와 담당자 수
+ */
+public record TodoCounts(Long todoId, Long commentCount, Long managerCount) {
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 색인에 넣을 todo 의 텍스트 컬럼 (modifiedAt 은 재동기화 커서에 씁니다.)
+ */
+public record TodoDocument(Long id, String title, String contents, LocalDateTime modifiedAt) {
+}
@@ -0,0 +1,54 @@
+package org.example.expert.domain.todo.dto;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * todo 조회 응답에 필요한 컬럼만 담는 projection 입니다.
+ * JPQL 생성자 표현식으로 만들어지므로 영속성 컨텍스트에 등록되지 않습니다.
+ */
+public record TodoRow(
+        Long id,
+        String title,
+        String contents,
+        String weather,
+        Long userId,
+        String userEmail,
+        LocalDateTime createdAt,
+        LocalDateTime modifiedAt
+) {
+
+    // 목록에서 contents 를 빼고 조회할 때 쓰는 생성자
+    public TodoRow(Long id, String title, String weather, Long userId, String userEmail,
+                   LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, null, weather, userId, userEmail, createdAt, modifiedAt);
+    }
+
+    public TodoResponse toResponse() {
+        return new TodoResponse(
+                id,
+                title,
+                contents,
+                weather,
+                new UserResponse(userId, userEmail),
+                createdAt,
+                modifiedAt
+        );
+    }
+
+    public TodoResponse toResponse(TodoCounts counts) {
+        return new TodoResponse(
+                id,
+                title,
+                contents,
+                weather,
+                new UserResponse(userId, userEmail),
+                createdAt,
+                modifiedAt,
+                counts == null ? 0L : counts.commentCount(),
+                counts == null ? 0L : counts.managerCount()
+        );
+    }
+}
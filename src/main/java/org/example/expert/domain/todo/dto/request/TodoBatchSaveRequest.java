@@ -0,0 +1,22 @@
+package org.example.expert.domain.todo.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchSaveRequest {
+
+    public static final int MAX_SIZE = 500;
+
+    @NotEmpty(message = "저장할 todo 가 없습니다.")
+    @Size(max = MAX_SIZE, message = "한 번에 최대 " + MAX_SIZE + "개까지 저장할 수 있습니다.")
+    private List<@Valid TodoSaveRequest> todos;
+}
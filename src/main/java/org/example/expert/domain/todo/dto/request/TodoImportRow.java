@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가져오기 파일의 한 행입니다. type 이 todo 이면 todo 를, comment 이면 댓글을 만듭니다.
+ * 댓글은 같은 파일에서 먼저 나온 todo 의 ref 나 이미 저장된 todo 의 id 를 가리킵니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRow {
+
+    public static final String TYPE_TODO = "todo";
+    public static final String TYPE_COMMENT = "comment";
+
+    private String type;
+    // 파일 안에서 todo 를 가리키는 이름
+    private String ref;
+    private String todoRef;
+    private Long todoId;
+    private Long userId;
+    private String title;
+    private String contents;
+    private String weather;
+}
@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchSaveResponse {
+
+    // 요청한 순서대로의 todo id
+    private final List<Long> ids;
+    private final String weather;
+
+    public TodoBatchSaveResponse(List<Long> ids, String weather) {
+        this.ids = ids;
+        this.weather = weather;
+    }
+}
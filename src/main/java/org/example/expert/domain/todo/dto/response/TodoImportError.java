@@ -0,0 +1,16 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoImportError {
+
+    // 헤더를 제외한 1부터 시작하는 행 번호
+    private final long row;
+    private final String message;
+
+    public TodoImportError(long row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+}
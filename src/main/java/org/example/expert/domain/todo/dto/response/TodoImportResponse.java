@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class TodoImportResponse {
+
+    private final String importId;
+    private final TodoImportStatus status;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final long parsedRows;
+    private final long importedTodos;
+    private final long importedComments;
+    private final long failedRows;
+    // 실패한 행 중 앞쪽 일부만 담습니다.
+    private final List<TodoImportError> errors;
+    private final String failureMessage;
+
+    public TodoImportResponse(String importId, TodoImportStatus status, LocalDateTime startedAt, LocalDateTime finishedAt,
+                              long parsedRows, long importedTodos, long importedComments, long failedRows,
+                              List<TodoImportError> errors, String failureMessage) {
+        this.importId = importId;
+        this.status = status;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.parsedRows = parsedRows;
+        this.importedTodos = importedTodos;
+        this.importedComments = importedComments;
+        this.failedRows = failedRows;
+        this.errors = errors;
+        this.failureMessage = failureMessage;
+    }
+}
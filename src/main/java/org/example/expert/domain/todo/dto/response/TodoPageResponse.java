@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoPageResponse {
+
+    private final List<TodoResponse> content;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+    // count=none 이면 null
+    private final Long totalElements;
+    // totalElements 가 COUNT 쿼리로 구한 정확한 값인지 여부
+    private final boolean totalExact;
+
+    public TodoPageResponse(List<TodoResponse> content, int page, int size, boolean hasNext, Long totalElements, boolean totalExact) {
+        this.content = content;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.totalElements = totalElements;
+        this.totalExact = totalExact;
+    }
+}
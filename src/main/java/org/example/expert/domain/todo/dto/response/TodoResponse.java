@@ -1,5 +1,6 @@
 package org.example.expert.domain.todo.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
@@ -15,8 +16,18 @@ public class TodoResponse {
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+    // 목록을 includeCounts=true 로 조회할 때만 채웁니다.
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long managerCount;
 
     public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, user, createdAt, modifiedAt, null, null);
+    }
+
+    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt,
+                        Long commentCount, Long managerCount) {
         this.id = id;
         this.title = title;
         this.contents = contents;
@@ -24,5 +35,7 @@ public class TodoResponse {
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
+        this.commentCount = commentCount;
+        this.managerCount = managerCount;
     }
 }
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoSearchResponse {
+
+    private final Long id;
+    private final String title;
+    private final double score;
+
+    public TodoSearchResponse(Long id, String title, double score) {
+        this.id = id;
+        this.title = title;
+        this.score = score;
+    }
+}
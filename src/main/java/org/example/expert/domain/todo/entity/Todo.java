@@ -14,10 +14,14 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@EntityListeners({TodoCountListener.class, TodoSearchListener.class, TodoCacheListener.class})
+@Table(name = "todos", indexes = @Index(name = "idx_todos_modified_at_id", columnList = "modified_at, id"))
 public class Todo extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "todo_id")
+    @TableGenerator(name = "todo_id", table = "id_blocks", pkColumnName = "entity", valueColumnName = "next_val",
+            pkColumnValue = "todos", allocationSize = 100)
     private Long id;
     private String title;
     private String contents;
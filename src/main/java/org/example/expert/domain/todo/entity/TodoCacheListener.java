@@ -0,0 +1,38 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.service.TodoDetailCache;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * todo 와 그 댓글/담당자가 바뀌면 todo 단건 조회 캐시를 무효화합니다.
+ */
+@RequiredArgsConstructor
+public class TodoCacheListener {
+
+    private final ObjectProvider<TodoDetailCache> todoDetailCache;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Todo todo = null;
+        if (entity instanceof Todo changed) {
+            todo = changed;
+        } else if (entity instanceof Comment comment) {
+            todo = comment.getTodo();
+        } else if (entity instanceof Manager manager) {
+            todo = manager.getTodo();
+        }
+        if (todo == null || todo.getId() == null) {
+            return;
+        }
+        Long todoId = todo.getId();
+        todoDetailCache.ifAvailable(cache -> cache.invalidate(todoId));
+    }
+}
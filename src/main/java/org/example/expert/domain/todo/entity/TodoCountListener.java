@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoCounter;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * todo 가 저장/삭제될 때 근사 개수를 갱신합니다.
+ * TodoCounter 는 EntityManagerFactory 가 만들어진 뒤에 생기므로 호출 시점에 꺼냅니다.
+ */
+@RequiredArgsConstructor
+public class TodoCountListener {
+
+    private final ObjectProvider<TodoCounter> todoCounter;
+
+    @PostPersist
+    public void onPersist(Todo todo) {
+        todoCounter.ifAvailable(counter -> counter.add(1));
+    }
+
+    @PostRemove
+    public void onRemove(Todo todo) {
+        todoCounter.ifAvailable(counter -> counter.add(-1));
+    }
+}
@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * todo 가 저장/수정(Todo.update)/삭제될 때 검색 색인을 갱신합니다.
+ */
+@RequiredArgsConstructor
+public class TodoSearchListener {
+
+    private final ObjectProvider<TodoSearchIndex> todoSearchIndex;
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Todo todo) {
+        todoSearchIndex.ifAvailable(index -> index.index(todo.getId(), todo.getTitle(), todo.getContents()));
+    }
+
+    @PostRemove
+    public void onRemove(Todo todo) {
+        todoSearchIndex.ifAvailable(index -> index.remove(todo.getId()));
+    }
+}
@@ -0,0 +1,25 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Locale;
+
+/**
+ * todo 목록에 전체 개수를 어떻게 담을지 정합니다.
+ */
+public enum TodoCountMode {
+    // 매 요청 COUNT 쿼리로 정확한 개수
+    EXACT,
+    // 저장/삭제 시 갱신하고 주기적으로 맞추는 메모리의 개수
+    APPROXIMATE,
+    // 개수 없이 다음 페이지 유무만
+    NONE;
+
+    public static TodoCountMode of(String mode) {
+        try {
+            return valueOf(mode.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidRequestException("유효하지 않은 count 입니다.");
+        }
+    }
+}
@@ -1,22 +1,106 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.TodoCounts;
+import org.example.expert.domain.todo.dto.TodoDocument;
+import org.example.expert.domain.todo.dto.TodoRow;
 import org.example.expert.domain.todo.entity.Todo;
-import org.springframework.data.domain.Page;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long> {
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Todo> findAllByOrderByModifiedAtDesc(Pageable pageable);
+    String SELECT_ROW = "SELECT new org.example.expert.domain.todo.dto.TodoRow(" +
+            "t.id, t.title, t.contents, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
 
-    @EntityGraph(attributePaths = {"user"})
-    Optional<Todo> findTodoById(Long todoId);
+    String EXPORT_FETCH_SIZE = "1000";
+
+    String SELECT_SUMMARY_ROW = "SELECT new org.example.expert.domain.todo.dto.TodoRow(" +
+            "t.id, t.title, t.weather, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u ";
+
+    // 목록 조회는 Slice 로 받아 COUNT 쿼리를 따로 실행하지 않습니다. 정확한 개수가 필요하면 count() 를 따로 호출합니다.
+    @Query(SELECT_ROW + "ORDER BY t.modifiedAt DESC")
+    Slice<TodoRow> findRows(Pageable pageable);
+
+    // contents 를 읽지 않는 목록 조회
+    @Query(SELECT_SUMMARY_ROW + "ORDER BY t.modifiedAt DESC")
+    Slice<TodoRow> findSummaryRows(Pageable pageable);
+
+    // 커서 페이지네이션: (modifiedAt, id) 인덱스를 따라 읽으므로 앞 페이지를 건너뛰는 비용과 count 쿼리가 없습니다.
+    @Query(SELECT_ROW + "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoRow> findFirstPage(Pageable pageable);
+
+    @Query(SELECT_ROW +
+            "WHERE t.modifiedAt < :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id < :id) " +
+            "ORDER BY t.modifiedAt DESC, t.id DESC")
+    Slice<TodoRow> findPageAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id, Pageable pageable);
+
+    // 단건 조회 캐시의 loader: 호출하는 쪽은 트랜잭션 없이 캐시를 먼저 보므로 여기서 읽기 전용 트랜잭션을 엽니다.
+    @Transactional(readOnly = true)
+    @Query(SELECT_ROW + "WHERE t.id = :todoId")
+    Optional<TodoRow> findRowById(@Param("todoId") Long todoId);
 
     int countById(Long todoId);
+
+    // 한 페이지의 todo 들에 대한 댓글/담당자 수를 한 번의 쿼리로 읽습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoCounts(t.id, " +
+            "(SELECT count(c) FROM Comment c WHERE c.todo.id = t.id), " +
+            "(SELECT count(m) FROM Manager m WHERE m.todo.id = t.id)) " +
+            "FROM Todo t WHERE t.id IN :todoIds")
+    List<TodoCounts> findCountsByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    // 가져오기 검증용: 주어진 id 중 존재하는 것만 반환합니다.
+    @Query("SELECT t.id FROM Todo t WHERE t.id IN :todoIds")
+    List<Long> findIdsByIdIn(@Param("todoIds") Collection<Long> todoIds);
+
+    @Query("SELECT t.user.id FROM Todo t WHERE t.id = :todoId")
+    Optional<Long> findOwnerIdById(@Param("todoId") Long todoId);
+
+    // 댓글과 담당자를 먼저 지운 뒤 todo 한 행만 지웁니다. 엔티티 리스너가 동작하지 않습니다.
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Todo t WHERE t.id = :todoId")
+    int deleteTodoById(@Param("todoId") Long todoId);
+
+    /**
+     * 내보내기용: 한 번에 EXPORT_FETCH_SIZE 행씩 서버에서 가져오는 커서로 읽습니다.
+     * MySQL 에서 행 단위로 받으려면 접속 URL 에 useCursorFetch=true 가 필요합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_ROW + "ORDER BY t.id")
+    Stream<TodoRow> streamAll();
+
+    // 검색 색인 생성용: 기본키 순서로 나눠 읽습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoDocument(t.id, t.title, t.contents, t.modifiedAt) " +
+            "FROM Todo t WHERE t.id > :afterId ORDER BY t.id")
+    Slice<TodoDocument> findDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 검색 색인 재동기화용: (modifiedAt, id) 인덱스를 따라 주어진 시각 이후에 바뀐 todo 를 나눠 읽습니다.
+    @Query("SELECT new org.example.expert.domain.todo.dto.TodoDocument(t.id, t.title, t.contents, t.modifiedAt) " +
+            "FROM Todo t WHERE t.modifiedAt > :modifiedAt OR (t.modifiedAt = :modifiedAt AND t.id > :id) " +
+            "ORDER BY t.modifiedAt, t.id")
+    Slice<TodoDocument> findDocumentsModifiedAfter(@Param("modifiedAt") LocalDateTime modifiedAt, @Param("id") Long id,
+                                                   Pageable pageable);
+
+    // 검색 색인 재동기화용: 다른 서버에서 삭제된 todo 를 찾으려고 id 만 기본키 순서로 나눠 읽습니다.
+    @Query("SELECT t.id FROM Todo t WHERE t.id > :afterId ORDER BY t.id")
+    Slice<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -0,0 +1,76 @@
+package org.example.expert.domain.todo.service;
+
+/**
+ * 키별 최근 접근 빈도를 근사하는 count-min sketch (4bit 카운터 4개)
+ * 샘플 수가 maxSize 의 10배에 이르면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊습니다.
+ */
+class FrequencySketch {
+
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int counterMask;
+    private final int sampleSize;
+    private int samples;
+
+    FrequencySketch(int maxSize) {
+        // long 하나에 카운터 16개를 담습니다.
+        int counters = Integer.highestOneBit(Math.max(16, maxSize * 4 - 1)) << 1;
+        this.table = new long[counters / 16];
+        this.counterMask = counters - 1;
+        this.sampleSize = Math.max(10, maxSize * 10);
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, counterAt(indexOf(hash, i)));
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int index = indexOf(hash, i);
+            if (counterAt(index) < MAX_COUNT) {
+                table[index >>> 4] += 1L << shiftOf(index);
+                added = true;
+            }
+        }
+        if (added && ++samples >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        samples /= 2;
+    }
+
+    private int counterAt(int index) {
+        return (int) ((table[index >>> 4] >>> shiftOf(index)) & 0xF);
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & counterMask;
+    }
+
+    private static int shiftOf(int index) {
+        return (index & 15) << 2;
+    }
+
+    private static int spread(int hash) {
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        hash = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        return (hash >>> 16) ^ hash;
+    }
+}
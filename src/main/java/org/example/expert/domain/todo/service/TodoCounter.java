@@ -0,0 +1,60 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * todo 전체 개수의 근사값
+ * 저장/삭제가 커밋될 때 바로 더하고 빼며, 다른 노드의 변경이나 벌크 쿼리로 생긴 차이는 주기적인 COUNT 로 맞춥니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TodoCounter {
+
+    private static final long UNKNOWN = -1;
+
+    private final TodoRepository todoRepository;
+
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+
+    public long approximateCount() {
+        long current = count.get();
+        if (current == UNKNOWN) {
+            refresh();
+            current = count.get();
+        }
+        return Math.max(0, current);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 개수를 바꿉니다. 트랜잭션 밖이면 바로 바꿉니다.
+     */
+    public void add(long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(delta);
+                }
+            });
+        } else {
+            apply(delta);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.count.refresh-interval:60000}", initialDelayString = "${todo.count.refresh-interval:60000}")
+    public void refresh() {
+        count.set(todoRepository.count());
+    }
+
+    private void apply(long delta) {
+        // 아직 한 번도 세지 않았다면 다음 조회 때 COUNT 로 채웁니다.
+        count.getAndUpdate(current -> current == UNKNOWN ? UNKNOWN : current + delta);
+    }
+}
@@ -0,0 +1,304 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * todo 단건 조회 응답 캐시 (W-TinyLFU)
+ * 새 항목은 전체의 1% 크기인 window 에 먼저 들어가고, window 에서 밀려날 때 main 영역의 가장 오래된 항목보다
+ * 최근 접근 빈도가 높아야 main 에 남습니다. 한 번 읽고 마는 todo 가 자주 읽히는 todo 를 밀어내지 않습니다.
+ * 항목은 ttl 이 지나면 만료되고, todo/댓글/담당자가 바뀌면 커밋 후 무효화됩니다.
+ * <p>
+ * 조회는 ConcurrentHashMap 에서 락 없이 하고, 접근 기록은 버퍼에 모았다가 락을 잡은 스레드가 한꺼번에
+ * LRU 순서와 빈도에 반영합니다. 버퍼가 가득 차면 기록을 버리므로 순서와 빈도는 근사값입니다.
+ * <p>
+ * replica 를 쓰면 무효화 직후의 조회는 아직 복제되지 않은 이전 값을 읽을 수 있으므로,
+ * 무효화 후 복제 지연 시간(staleWindow) 안에 읽은 값은 캐시에 넣지 않습니다.
+ */
+@Component
+public class TodoDetailCache {
+
+    // 접근 기록 버퍼의 최대 크기와, 이만큼 쌓이면 비우는 기준
+    private static final int READ_BUFFER_SIZE = 256;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 64;
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final long staleWindowMillis;
+    private final Clock clock;
+    private final int windowMaxSize;
+    private final int maxInvalidations;
+
+    // 조회용. 구조 변경은 evictionLock 안에서만 합니다.
+    private final ConcurrentHashMap<Long, Node> data = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> readBuffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger readBufferSize = new AtomicInteger();
+
+    // 아래는 evictionLock 으로 보호합니다.
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    // 접근 순서로 정렬되므로 첫 항목이 가장 오래 읽히지 않은 항목입니다.
+    private final LinkedHashMap<Long, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<Long, Node> main = new LinkedHashMap<>(16, 0.75f, true);
+    private final FrequencySketch sketch;
+    // 최근에 무효화된 todo 와 그 시각 (무효화 순서)
+    private final LinkedHashMap<Long, Long> invalidatedAt = new LinkedHashMap<>();
+
+    // todo 별 마지막 무효화 순번. 조회를 시작한 뒤에 그 todo 가 무효화되었으면 읽은 값을 캐시하지 않습니다.
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentHashMap<Long, Long> invalidatedSequence = new ConcurrentHashMap<>();
+    // 이 순번 이하의 무효화 기록은 정리했으므로, 그 전에 시작한 조회는 캐시하지 않습니다.
+    private volatile long prunedSequence;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private static final class Node {
+        private final TodoResponse value;
+        private final long expiresAt;
+        private boolean inMain;
+
+        private Node(TodoResponse value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    @Autowired
+    public TodoDetailCache(
+            @Value("${todo.cache.max-size:10000}") int maxSize,
+            @Value("${todo.cache.ttl:60000}") long ttlMillis,
+            @Value("${datasource.replica.urls:}") String replicaUrls,
+            @Value("${datasource.read-your-writes-ms:5000}") long replicaLagMillis
+    ) {
+        this(maxSize, ttlMillis, StringUtils.hasText(replicaUrls) ? replicaLagMillis : 0, Clock.systemUTC());
+    }
+
+    public TodoDetailCache(int maxSize, long ttlMillis, Clock clock) {
+        this(maxSize, ttlMillis, 0, clock);
+    }
+
+    public TodoDetailCache(int maxSize, long ttlMillis, long staleWindowMillis, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.staleWindowMillis = staleWindowMillis;
+        this.clock = clock;
+        this.windowMaxSize = Math.max(1, maxSize / 100);
+        this.maxInvalidations = Math.max(1_000, maxSize);
+        this.sketch = new FrequencySketch(maxSize);
+    }
+
+    /**
+     * 캐시에 있으면 반환하고, 없으면 loader 로 읽어 캐시에 넣습니다.
+     */
+    public TodoResponse get(long todoId, Supplier<TodoResponse> loader) {
+        TodoResponse cached = getIfPresent(todoId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadSequence = sequence.get();
+        TodoResponse loaded = loader.get();
+        put(todoId, loaded, loadSequence);
+        return loaded;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 무효화합니다. 트랜잭션 밖이면 바로 무효화합니다.
+     */
+    public void invalidate(long todoId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(todoId);
+                }
+            });
+        } else {
+            remove(todoId);
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return data.size();
+    }
+
+    private TodoResponse getIfPresent(long todoId) {
+        Node node = data.get(todoId);
+        recordAccess(todoId);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        if (node.expiresAt <= clock.millis()) {
+            expire(todoId, node);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return node.value;
+    }
+
+    private void recordAccess(long todoId) {
+        if (readBufferSize.get() < READ_BUFFER_SIZE) {
+            readBuffer.offer(todoId);
+            readBufferSize.incrementAndGet();
+        }
+        if (readBufferSize.get() >= READ_BUFFER_DRAIN_THRESHOLD && evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    // evictionLock 안에서 호출합니다.
+    private void drainReadBuffer() {
+        Long todoId;
+        while ((todoId = readBuffer.poll()) != null) {
+            readBufferSize.decrementAndGet();
+            sketch.increment(todoId);
+            Node node = data.get(todoId);
+            if (node != null) {
+                // access-order 맵은 get 으로 순서를 갱신합니다.
+                (node.inMain ? main : window).get(todoId);
+            }
+        }
+    }
+
+    private void expire(long todoId, Node node) {
+        evictionLock.lock();
+        try {
+            if (data.remove(todoId, node)) {
+                window.remove(todoId);
+                main.remove(todoId);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void put(long todoId, TodoResponse value, long loadSequence) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            // 조회하는 동안 이 todo 가 무효화되었다면 읽은 값이 이미 오래됐을 수 있습니다.
+            if (loadSequence < prunedSequence || invalidatedSequence.getOrDefault(todoId, 0L) > loadSequence) {
+                return;
+            }
+            // 무효화 직후라면 replica 에서 이전 값을 읽었을 수 있습니다.
+            if (staleWindowMillis > 0) {
+                expireInvalidations();
+                if (invalidatedAt.containsKey(todoId)) {
+                    return;
+                }
+            }
+
+            Node node = new Node(value, clock.millis() + ttlMillis);
+            Node existing = data.put(todoId, node);
+            if (existing != null && existing.inMain) {
+                node.inMain = true;
+                main.put(todoId, node);
+                return;
+            }
+            window.put(todoId, node);
+            if (window.size() > windowMaxSize) {
+                Iterator<Map.Entry<Long, Node>> iterator = window.entrySet().iterator();
+                Map.Entry<Long, Node> candidate = iterator.next();
+                iterator.remove();
+                admit(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void admit(Long candidateKey, Node candidate) {
+        if (main.size() < maxSize - windowMaxSize) {
+            candidate.inMain = true;
+            main.put(candidateKey, candidate);
+            return;
+        }
+
+        Iterator<Map.Entry<Long, Node>> iterator = main.entrySet().iterator();
+        Map.Entry<Long, Node> victim = iterator.next();
+        evictions.increment();
+        if (sketch.frequency(candidateKey) > sketch.frequency(victim.getKey())) {
+            iterator.remove();
+            data.remove(victim.getKey(), victim.getValue());
+            candidate.inMain = true;
+            main.put(candidateKey, candidate);
+        } else {
+            data.remove(candidateKey, candidate);
+        }
+    }
+
+    private void remove(long todoId) {
+        // 순번을 먼저 남겨, 이미 읽기 시작한 조회가 이전 값을 캐시에 넣지 못하게 합니다.
+        invalidatedSequence.merge(todoId, sequence.incrementAndGet(), Math::max);
+
+        evictionLock.lock();
+        try {
+            data.remove(todoId);
+            window.remove(todoId);
+            main.remove(todoId);
+            if (staleWindowMillis > 0) {
+                // 다시 넣어 무효화 순서의 맨 뒤로 보냅니다.
+                invalidatedAt.remove(todoId);
+                invalidatedAt.put(todoId, clock.millis());
+                expireInvalidations();
+            }
+            pruneInvalidations();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    // 무효화 기록이 많아지면 오래된 절반을 지웁니다. 그보다 먼저 시작한 조회는 캐시하지 않게 됩니다.
+    private void pruneInvalidations() {
+        if (invalidatedSequence.size() <= maxInvalidations) {
+            return;
+        }
+        long cutoff = sequence.get() - maxInvalidations / 2;
+        prunedSequence = cutoff;
+        invalidatedSequence.values().removeIf(invalidated -> invalidated <= cutoff);
+    }
+
+    private void expireInvalidations() {
+        long threshold = clock.millis() - staleWindowMillis;
+        Iterator<Long> iterator = invalidatedAt.values().iterator();
+        while (iterator.hasNext() && iterator.next() <= threshold) {
+            iterator.remove();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.TodoRow;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * todo 전체를 한 줄에 하나씩 JSON 으로 내보냅니다. (NDJSON)
+ * projection 을 Stream 으로 읽으므로 영속성 컨텍스트에 엔티티가 쌓이지 않고, 행을 읽는 대로 응답에 씁니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    // 이 행 수마다 응답 버퍼를 내보냅니다.
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long export(OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+             Stream<TodoRow> rows = todoRepository.streamAll()) {
+            Iterator<TodoRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next().toResponse());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
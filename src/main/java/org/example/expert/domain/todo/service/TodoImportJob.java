@@ -0,0 +1,89 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가져오기 한 건의 진행 상황입니다. 읽기 단계와 저장 단계가 서로 다른 스레드에서 갱신하고,
+ * 진행 상황 조회는 또 다른 요청 스레드에서 읽습니다.
+ */
+class TodoImportJob {
+
+    // 응답에 담는 행 오류 수 (실패 행 수는 모두 셉니다)
+    static final int MAX_ERRORS = 100;
+
+    private final String id = UUID.randomUUID().toString();
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final AtomicLong parsedRows = new AtomicLong();
+    private final AtomicLong importedTodos = new AtomicLong();
+    private final AtomicLong importedComments = new AtomicLong();
+    private final AtomicLong failedRows = new AtomicLong();
+    private final List<TodoImportError> errors = new ArrayList<>();
+
+    private volatile TodoImportStatus status = TodoImportStatus.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    String id() {
+        return id;
+    }
+
+    boolean isRunning() {
+        return status == TodoImportStatus.RUNNING;
+    }
+
+    void parsed() {
+        parsedRows.incrementAndGet();
+    }
+
+    void imported(long todos, long comments) {
+        importedTodos.addAndGet(todos);
+        importedComments.addAndGet(comments);
+    }
+
+    void fail(long rowNumber, String message) {
+        failedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(new TodoImportError(rowNumber, message));
+            }
+        }
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        status = TodoImportStatus.COMPLETED;
+    }
+
+    void abort(String message) {
+        failureMessage = message;
+        finishedAt = LocalDateTime.now();
+        status = TodoImportStatus.FAILED;
+    }
+
+    TodoImportResponse toResponse() {
+        List<TodoImportError> snapshot;
+        synchronized (errors) {
+            snapshot = List.copyOf(errors);
+        }
+        return new TodoImportResponse(
+                id,
+                status,
+                startedAt,
+                finishedAt,
+                parsedRows.get(),
+                importedTodos.get(),
+                importedComments.get(),
+                failedRows.get(),
+                snapshot,
+                failureMessage
+        );
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportRow;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가져오기 파일을 한 행씩 읽습니다. 파일 전체를 메모리에 올리지 않고 입력 스트림에서 필요한 만큼만 읽습니다.
+ * 형식이 잘못된 행은 예외 대신 오류 메시지를 담은 {@link ParsedRow} 로 반환하므로 나머지 행은 계속 읽을 수 있습니다.
+ */
+public abstract class TodoImportReader implements Closeable {
+
+    public static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    protected final BufferedReader reader;
+    protected long rowNumber;
+
+    protected TodoImportReader(InputStream in) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    }
+
+    public static TodoImportReader of(MediaType contentType, InputStream in, ObjectMapper objectMapper) {
+        if (contentType != null && TEXT_CSV.isCompatibleWith(contentType)) {
+            return new Csv(in);
+        }
+        if (contentType != null && MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            return new Ndjson(in, objectMapper);
+        }
+        throw new InvalidRequestException("text/csv 또는 application/x-ndjson 형식만 가져올 수 있습니다.");
+    }
+
+    /**
+     * 다음 행을 읽습니다. 더 읽을 행이 없으면 null 을 반환합니다.
+     */
+    public abstract ParsedRow next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    public record ParsedRow(long rowNumber, TodoImportRow row, String error) {
+
+        static ParsedRow of(long rowNumber, TodoImportRow row) {
+            return new ParsedRow(rowNumber, row, null);
+        }
+
+        static ParsedRow error(long rowNumber, String error) {
+            return new ParsedRow(rowNumber, null, error);
+        }
+    }
+
+    /**
+     * 한 줄에 JSON 객체 하나씩 담긴 파일을 읽습니다.
+     */
+    static class Ndjson extends TodoImportReader {
+
+        private final ObjectReader rowReader;
+
+        Ndjson(InputStream in, ObjectMapper objectMapper) {
+            super(in);
+            this.rowReader = objectMapper.readerFor(TodoImportRow.class);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+
+            rowNumber++;
+            try {
+                return ParsedRow.of(rowNumber, rowReader.readValue(line));
+            } catch (JsonProcessingException e) {
+                return ParsedRow.error(rowNumber, "JSON 형식이 올바르지 않습니다.");
+            }
+        }
+    }
+
+    /**
+     * 첫 행을 헤더로 읽는 CSV 파일입니다. (RFC 4180)
+     * 큰따옴표로 감싼 필드 안에서는 쉼표와 줄바꿈을 쓸 수 있고, 큰따옴표는 두 번 써서 나타냅니다.
+     */
+    static class Csv extends TodoImportReader {
+
+        private static final List<String> UNTERMINATED = List.of();
+
+        private Map<String, Integer> columns;
+
+        Csv(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public ParsedRow next() throws IOException {
+            if (columns == null) {
+                List<String> header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    // 엑셀이 붙이는 BOM 은 첫 컬럼 이름에서 떼어냅니다.
+                    columns.put(header.get(i).replace("\uFEFF", "").trim(), i);
+                }
+            }
+
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isEmpty());
+
+            rowNumber++;
+            if (fields == UNTERMINATED) {
+                return ParsedRow.error(rowNumber, "닫히지 않은 큰따옴표가 있습니다.");
+            }
+            try {
+                return ParsedRow.of(rowNumber, new TodoImportRow(
+                        field(fields, "type"),
+                        field(fields, "ref"),
+                        field(fields, "todoRef"),
+                        longField(fields, "todoId"),
+                        longField(fields, "userId"),
+                        field(fields, "title"),
+                        field(fields, "contents"),
+                        field(fields, "weather")
+                ));
+            } catch (NumberFormatException e) {
+                return ParsedRow.error(rowNumber, "id 는 숫자여야 합니다.");
+            }
+        }
+
+        private String field(List<String> fields, String name) {
+            Integer index = columns.get(name);
+            if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+                return null;
+            }
+            return fields.get(index);
+        }
+
+        private Long longField(List<String> fields, String name) {
+            String value = field(fields, name);
+            return value == null ? null : Long.valueOf(value.trim());
+        }
+
+        // 레코드 하나를 읽습니다. 파일 끝이면 null, 따옴표가 닫히지 않고 끝나면 UNTERMINATED 를 반환합니다.
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean read = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                read = true;
+                char ch = (char) c;
+                if (quoted) {
+                    if (ch != '"') {
+                        field.append(ch);
+                        continue;
+                    }
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else if (ch == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (ch == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (ch == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (ch != '\r') {
+                    field.append(ch);
+                }
+            }
+            if (!read) {
+                return null;
+            }
+            if (quoted) {
+                return UNTERMINATED;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -0,0 +1,388 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceBusyException;
+import org.example.expert.domain.todo.dto.request.TodoImportRow;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoImportReader.ParsedRow;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 파일에서 todo 와 댓글을 가져옵니다.
+ * <p>
+ * 요청 스레드가 본문을 한 행씩 읽어 chunk 로 묶고(읽기 단계), 크기가 제한된 큐를 거쳐 전용 스레드가 chunk 단위로
+ * 검증하고 한 트랜잭션에 저장합니다(저장 단계). 저장이 밀리면 큐가 차서 읽기 단계도 멈추므로 메모리에는
+ * chunk 몇 개만 올라갑니다. insert 는 JDBC 배치로 묶여 나갑니다.
+ * <p>
+ * 한 chunk 의 저장이 실패하면 그 chunk 의 행만 실패로 기록하고 다음 chunk 를 계속 저장합니다.
+ */
+@Slf4j(topic = "TodoImportService")
+@Service
+@RequiredArgsConstructor
+public class TodoImportService {
+
+    private static final String BUSY_MESSAGE = "진행 중인 가져오기가 많아 잠시 후 다시 시도해주세요.";
+    private static final int MAX_LENGTH = 255;
+    // 끝난 가져오기는 이 수만큼만 진행 상황 조회에 남깁니다.
+    private static final int RECENT_JOBS = 20;
+    // 저장 단계를 알리는 마지막 chunk
+    private static final List<ParsedRow> END = List.of();
+
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${todo.import.chunk-size:500}")
+    private int chunkSize = 500;
+    @Value("${todo.import.queue-capacity:4}")
+    private int queueCapacity = 4;
+    @Value("${todo.import.max-concurrent:2}")
+    private int maxConcurrent = 2;
+    @Value("${todo.import.retry-after-seconds:30}")
+    private long retryAfterSeconds = 30;
+    // 저장 단계가 이 시간 안에 마지막 chunk 를 받지 못하면 멈춘 것으로 보고 취소합니다.
+    @Value("${todo.import.end-timeout-ms:60000}")
+    private long endTimeoutMillis = 60_000;
+
+    private ThreadPoolExecutor executor;
+
+    private final Map<String, TodoImportJob> jobs = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        // 대기열 없이 저장 스레드 수만큼만 동시에 가져옵니다.
+        executor = new ThreadPoolExecutor(
+                maxConcurrent, maxConcurrent,
+                0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "todo-import-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 본문을 끝까지 읽고 저장이 모두 끝나면 결과를 반환합니다.
+     * 진행 중인 상황은 {@link #getImports()} 로 다른 요청에서 볼 수 있습니다.
+     */
+    public TodoImportResponse importTodos(MediaType contentType, InputStream in) {
+        TodoImportReader reader = TodoImportReader.of(contentType, in, objectMapper);
+        TodoImportJob job = new TodoImportJob();
+        BlockingQueue<List<ParsedRow>> queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Future<?> writer;
+        try {
+            writer = executor.submit(() -> {
+                write(job, queue);
+                return null;
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException(BUSY_MESSAGE, retryAfterSeconds);
+        }
+        register(job);
+
+        try {
+            read(job, reader, queue, writer);
+            writer.get();
+            job.complete();
+        } catch (IOException e) {
+            awaitWriter(job, writer);
+            job.abort("파일을 읽는 중 오류가 발생했습니다.");
+            throw new ServerException("파일을 읽는 중 오류가 발생했습니다.");
+        } catch (InterruptedException e) {
+            writer.cancel(true);
+            job.abort("가져오기가 중단되었습니다.");
+            Thread.currentThread().interrupt();
+            throw new ServerException("가져오기가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            log.error("가져오기 저장 단계 실패 {}", job.id(), e.getCause());
+            job.abort("저장 중 오류가 발생했습니다.");
+            throw new ServerException("저장 중 오류가 발생했습니다.");
+        } catch (RuntimeException e) {
+            awaitWriter(job, writer);
+            job.abort(e.getMessage());
+            throw e;
+        } finally {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                log.debug("가져오기 입력 스트림 닫기 실패", e);
+            }
+        }
+        return job.toResponse();
+    }
+
+    // 읽기 단계가 실패해도 이미 넘긴 chunk 는 저장 단계가 마저 저장하므로, 저장 스레드가 끝난 뒤에 가져오기를 중단으로 기록합니다.
+    // 기다리는 중에 요청 스레드가 인터럽트되면 저장 단계를 취소합니다.
+    private void awaitWriter(TodoImportJob job, Future<?> writer) {
+        try {
+            writer.get();
+        } catch (ExecutionException e) {
+            log.error("가져오기 저장 단계 실패 {}", job.id(), e.getCause());
+        } catch (InterruptedException e) {
+            writer.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (CancellationException e) {
+            // 저장 단계가 멈춰 취소한 경우
+        }
+    }
+
+    /**
+     * 진행 중이거나 최근에 끝난 가져오기의 진행 상황을 시작한 순서대로 반환합니다.
+     */
+    public List<TodoImportResponse> getImports() {
+        List<TodoImportJob> snapshot;
+        synchronized (jobs) {
+            snapshot = new ArrayList<>(jobs.values());
+        }
+        return snapshot.stream().map(TodoImportJob::toResponse).toList();
+    }
+
+    private void register(TodoImportJob job) {
+        synchronized (jobs) {
+            jobs.put(job.id(), job);
+            int finished = (int) jobs.values().stream().filter(j -> !j.isRunning()).count();
+            Iterator<TodoImportJob> iterator = jobs.values().iterator();
+            while (finished > RECENT_JOBS && iterator.hasNext()) {
+                if (!iterator.next().isRunning()) {
+                    iterator.remove();
+                    finished--;
+                }
+            }
+        }
+    }
+
+    // 읽기 단계: 요청 스레드에서 행을 읽어 chunk 로 묶어 큐에 넣습니다. 형식 오류는 여기서 바로 실패로 기록합니다.
+    private void read(TodoImportJob job, TodoImportReader reader, BlockingQueue<List<ParsedRow>> queue,
+                      Future<?> writer) throws IOException, InterruptedException {
+        Throwable failure = null;
+        try {
+            List<ParsedRow> chunk = new ArrayList<>(chunkSize);
+            ParsedRow parsed;
+            while ((parsed = reader.next()) != null) {
+                job.parsed();
+                if (parsed.error() != null) {
+                    job.fail(parsed.rowNumber(), parsed.error());
+                    continue;
+                }
+                chunk.add(parsed);
+                if (chunk.size() == chunkSize) {
+                    put(queue, chunk, writer);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                put(queue, chunk, writer);
+            }
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            // 읽기가 실패해도 이미 넘긴 chunk 는 저장하고 저장 단계가 끝나도록 알립니다.
+            // 알리는 데 실패해도 읽기 단계의 예외를 덮어쓰지 않습니다.
+            try {
+                putEnd(queue, writer);
+            } catch (InterruptedException | RuntimeException e) {
+                if (failure == null) {
+                    throw e;
+                }
+                failure.addSuppressed(e);
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    // 큐가 가득 차 있으면 기다리되, 저장 단계가 먼저 끝나버렸다면 더 기다리지 않습니다.
+    private void put(BlockingQueue<List<ParsedRow>> queue, List<ParsedRow> chunk, Future<?> writer)
+            throws InterruptedException {
+        while (!queue.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+            if (writer.isDone()) {
+                throw new ServerException("저장 중 오류가 발생했습니다.");
+            }
+        }
+    }
+
+    // 저장 단계가 멈춰 큐를 비우지 않으면 요청 스레드가 끝없이 기다리지 않도록 시간을 제한하고, 넘기면 저장 단계를 취소합니다.
+    private void putEnd(BlockingQueue<List<ParsedRow>> queue, Future<?> writer) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(endTimeoutMillis);
+        while (!writer.isDone() && !queue.offer(END, 100, TimeUnit.MILLISECONDS)) {
+            if (System.nanoTime() - deadline >= 0) {
+                writer.cancel(true);
+                throw new ServerException("저장 단계가 응답하지 않아 가져오기를 중단했습니다.");
+            }
+        }
+    }
+
+    // 저장 단계: 전용 스레드에서 chunk 를 하나씩 꺼내 저장합니다.
+    private void write(TodoImportJob job, BlockingQueue<List<ParsedRow>> queue) throws InterruptedException {
+        // 파일 안의 ref 로 저장된 todo id 를 찾습니다.
+        Map<String, Long> todoIdsByRef = new HashMap<>();
+        List<ParsedRow> chunk;
+        while ((chunk = queue.take()) != END) {
+            writeChunk(job, chunk, todoIdsByRef);
+        }
+    }
+
+    private void writeChunk(TodoImportJob job, List<ParsedRow> chunk, Map<String, Long> todoIdsByRef) {
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> todoIds = new HashSet<>();
+        for (ParsedRow parsed : chunk) {
+            if (parsed.row().getUserId() != null) {
+                userIds.add(parsed.row().getUserId());
+            }
+            if (parsed.row().getTodoId() != null) {
+                todoIds.add(parsed.row().getTodoId());
+            }
+        }
+        Set<Long> existingUserIds = userIds.isEmpty() ? Set.of() : new HashSet<>(userRepository.findIdsByIdIn(userIds));
+        Set<Long> existingTodoIds = todoIds.isEmpty() ? Set.of() : new HashSet<>(todoRepository.findIdsByIdIn(todoIds));
+
+        List<TodoImportRow> accepted = new ArrayList<>(chunk.size());
+        List<Long> acceptedRowNumbers = new ArrayList<>(chunk.size());
+        Set<String> chunkRefs = new HashSet<>();
+        for (ParsedRow parsed : chunk) {
+            String error = validate(parsed.row(), existingUserIds, existingTodoIds, todoIdsByRef, chunkRefs);
+            if (error != null) {
+                job.fail(parsed.rowNumber(), error);
+                continue;
+            }
+            accepted.add(parsed.row());
+            acceptedRowNumbers.add(parsed.rowNumber());
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, Long> savedRefs = transactionTemplate.execute(status -> save(accepted, todoIdsByRef));
+            long todos = accepted.stream().filter(row -> TodoImportRow.TYPE_TODO.equals(row.getType())).count();
+            todoIdsByRef.putAll(savedRefs);
+            job.imported(todos, accepted.size() - todos);
+        } catch (RuntimeException e) {
+            log.warn("가져오기 chunk 저장 실패 {} (행 {}~{})", job.id(),
+                    acceptedRowNumbers.get(0), acceptedRowNumbers.get(acceptedRowNumbers.size() - 1), e);
+            for (Long rowNumber : acceptedRowNumbers) {
+                job.fail(rowNumber, "저장에 실패했습니다.");
+            }
+        }
+    }
+
+    private Map<String, Long> save(List<TodoImportRow> rows, Map<String, Long> todoIdsByRef) {
+        Map<String, Todo> todosByRef = new HashMap<>();
+        for (TodoImportRow row : rows) {
+            User user = entityManager.getReference(User.class, row.getUserId());
+            if (TodoImportRow.TYPE_TODO.equals(row.getType())) {
+                Todo todo = new Todo(row.getTitle(), row.getContents(), row.getWeather(), user);
+                entityManager.persist(todo);
+                if (row.getRef() != null) {
+                    todosByRef.put(row.getRef(), todo);
+                }
+            } else {
+                Todo todo;
+                if (row.getTodoRef() == null) {
+                    todo = entityManager.getReference(Todo.class, row.getTodoId());
+                } else if (todosByRef.containsKey(row.getTodoRef())) {
+                    todo = todosByRef.get(row.getTodoRef());
+                } else {
+                    todo = entityManager.getReference(Todo.class, todoIdsByRef.get(row.getTodoRef()));
+                }
+                entityManager.persist(new Comment(row.getContents(), user, todo));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Map<String, Long> savedRefs = new HashMap<>();
+        todosByRef.forEach((ref, todo) -> savedRefs.put(ref, todo.getId()));
+        return savedRefs;
+    }
+
+    private String validate(TodoImportRow row, Set<Long> existingUserIds, Set<Long> existingTodoIds,
+                            Map<String, Long> todoIdsByRef, Set<String> chunkRefs) {
+        if (row.getUserId() == null || !existingUserIds.contains(row.getUserId())) {
+            return "User not found";
+        }
+        if (!StringUtils.hasText(row.getContents())) {
+            return "내용이 비어있습니다.";
+        }
+        if (row.getContents().length() > MAX_LENGTH) {
+            return "내용은 " + MAX_LENGTH + "자를 넘을 수 없습니다.";
+        }
+
+        if (TodoImportRow.TYPE_TODO.equals(row.getType())) {
+            if (!StringUtils.hasText(row.getTitle())) {
+                return "제목이 비어있습니다.";
+            }
+            if (row.getTitle().length() > MAX_LENGTH) {
+                return "제목은 " + MAX_LENGTH + "자를 넘을 수 없습니다.";
+            }
+            if (row.getWeather() != null && row.getWeather().length() > MAX_LENGTH) {
+                return "날씨는 " + MAX_LENGTH + "자를 넘을 수 없습니다.";
+            }
+            if (row.getRef() != null && (todoIdsByRef.containsKey(row.getRef()) || !chunkRefs.add(row.getRef()))) {
+                return "이미 사용된 ref 입니다.";
+            }
+            return null;
+        }
+
+        if (TodoImportRow.TYPE_COMMENT.equals(row.getType())) {
+            if (row.getTodoRef() != null) {
+                return todoIdsByRef.containsKey(row.getTodoRef()) || chunkRefs.contains(row.getTodoRef())
+                        ? null : "앞에서 가져온 todo 중 todoRef 에 해당하는 것이 없습니다.";
+            }
+            return row.getTodoId() != null && existingTodoIds.contains(row.getTodoId())
+                    ? null : "Todo not found";
+        }
+
+        return "type 은 todo 또는 comment 여야 합니다.";
+    }
+}
@@ -0,0 +1,430 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoDocument;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * todo 제목/내용에 대한 메모리 역색인
+ * 토큰마다 todo id 와 출현 횟수의 postings 를 두고, 검색어의 모든 토큰을 포함한 todo 를 BM25 점수로 정렬합니다.
+ * 시작할 때 id 순서로 나눠 읽어 색인을 만들고, 이후에는 todo 저장/수정/삭제가 커밋될 때 반영합니다.
+ * 다른 서버에서 바뀐 todo 는 주기적인 재동기화로 반영합니다.
+ * <p>
+ * 색인을 만들거나 재동기화하는 동안 이 서버에서 커밋된 저장/삭제는 기록해 두고, DB 에서 먼저 읽어 둔 이전 내용으로
+ * 덮어쓰거나 삭제된 todo 를 되살리지 않도록 건너뜁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // 제목에 나온 토큰은 내용보다 가중치를 둡니다.
+    private static final int TITLE_WEIGHT = 2;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final TodoRepository todoRepository;
+
+    @Value("${todo.search.build-batch-size:1000}")
+    private int buildBatchSize = 1000;
+    // modifiedAt 이 찍힌 뒤 늦게 커밋된 todo 와 서버 간 시계 차이를 덮도록 재동기화를 이만큼 앞에서 시작합니다.
+    @Value("${todo.search.resync-overlap:10000}")
+    private long resyncOverlapMillis = 10000;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    // build/resync 가 DB 를 읽는 동안 커밋된 todo id (쓰기 락으로 보호)
+    private final Set<Long> changedWhileLoading = new HashSet<>();
+    private boolean loading;
+
+    // 지금까지 읽은 todo 의 가장 늦은 modifiedAt (build/resync 안에서만 접근)
+    private LocalDateTime watermark = EPOCH;
+    private boolean built;
+
+    // 제거할 때 postings 를 찾기 위해 토큰 목록을 함께 둡니다.
+    private record Document(String title, String[] terms, int length) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        long startedAt = System.currentTimeMillis();
+        int count = 0;
+        startLoading();
+        try {
+            Slice<TodoDocument> slice = todoRepository.findDocumentsAfter(0L, PageRequest.of(0, buildBatchSize));
+            while (true) {
+                for (TodoDocument document : slice) {
+                    load(document);
+                    count++;
+                }
+                if (!slice.hasNext()) {
+                    break;
+                }
+                Long lastId = slice.getContent().get(slice.getNumberOfElements() - 1).id();
+                slice = todoRepository.findDocumentsAfter(lastId, PageRequest.of(0, buildBatchSize));
+            }
+            built = true;
+        } finally {
+            stopLoading();
+        }
+        log.info("todo 검색 색인 생성: {}건, {}ms", count, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 마지막으로 읽은 modifiedAt 이후에 바뀐 todo 를 (modifiedAt, id) 순서로 다시 색인합니다.
+     * 색인 수가 DB 의 todo 수와 다르면 id 를 훑어 다른 서버에서 삭제된 todo 를 지웁니다.
+     */
+    @Scheduled(fixedDelayString = "${todo.search.resync-interval:60000}", initialDelayString = "${todo.search.resync-interval:60000}")
+    public synchronized void resync() {
+        if (!built) {
+            return;
+        }
+        int updated = 0;
+        int removed = 0;
+        startLoading();
+        try {
+            // 삭제 확인은 DB 를 읽기 전에 색인에 있던 todo 로만 합니다. 그 뒤에 추가된 todo 는 아직 id 목록에 없을 수 있습니다.
+            long[] indexedIds = indexedIds();
+
+            LocalDateTime since = watermark.minus(resyncOverlapMillis, ChronoUnit.MILLIS);
+            Slice<TodoDocument> slice = todoRepository.findDocumentsModifiedAfter(since, 0L, PageRequest.of(0, buildBatchSize));
+            while (true) {
+                for (TodoDocument document : slice) {
+                    load(document);
+                    updated++;
+                }
+                if (!slice.hasNext()) {
+                    break;
+                }
+                TodoDocument last = slice.getContent().get(slice.getNumberOfElements() - 1);
+                slice = todoRepository.findDocumentsModifiedAfter(last.modifiedAt(), last.id(), PageRequest.of(0, buildBatchSize));
+            }
+
+            if (size() != todoRepository.count()) {
+                removed = removeDeleted(indexedIds);
+            }
+        } finally {
+            stopLoading();
+        }
+        log.debug("todo 검색 색인 재동기화: {}건 갱신, {}건 삭제", updated, removed);
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 색인에 반영합니다. 트랜잭션 밖이면 바로 반영합니다.
+     */
+    public void index(Long id, String title, String contents) {
+        afterCommit(() -> apply(id, title, contents, false));
+    }
+
+    public void remove(Long id) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                markChanged(id);
+                removeDocument(id);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<TodoSearchResponse> search(String query, int size) {
+        Set<String> terms = new LinkedHashSet<>(TodoTokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Postings> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings docs = postings.get(term);
+                if (docs == null) {
+                    return List.of();
+                }
+                termPostings.add(docs);
+            }
+            // 가장 짧은 postings 를 기준으로 나머지에 모두 있는 todo 만 점수를 매깁니다.
+            termPostings.sort(Comparator.comparingInt(Postings::size));
+
+            int documentCount = documents.size();
+            double averageLength = (double) totalLength / documentCount;
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = termPostings.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            PriorityQueue<TodoSearchResponse> top = new PriorityQueue<>(Comparator.comparingDouble(TodoSearchResponse::getScore));
+            Postings shortest = termPostings.get(0);
+            candidates:
+            for (int candidate = 0; candidate < shortest.size; candidate++) {
+                long id = shortest.ids[candidate];
+                int[] frequencies = new int[idf.length];
+                frequencies[0] = shortest.frequencies[candidate];
+                for (int i = 1; i < idf.length; i++) {
+                    int tf = termPostings.get(i).frequency(id);
+                    if (tf == 0) {
+                        continue candidates;
+                    }
+                    frequencies[i] = tf;
+                }
+
+                Document document = documents.get(id);
+                double norm = K1 * (1 - B + B * document.length() / averageLength);
+                double score = 0;
+                for (int i = 0; i < idf.length; i++) {
+                    score += idf[i] * frequencies[i] * (K1 + 1) / (frequencies[i] + norm);
+                }
+                if (top.size() < size || score > top.peek().getScore()) {
+                    top.offer(new TodoSearchResponse(id, document.title(), score));
+                    if (top.size() > size) {
+                        top.poll();
+                    }
+                }
+            }
+
+            List<TodoSearchResponse> results = new ArrayList<>(top);
+            results.sort(Comparator.comparingDouble(TodoSearchResponse::getScore).reversed()
+                    .thenComparing(TodoSearchResponse::getId, Comparator.reverseOrder()));
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void load(TodoDocument document) {
+        apply(document.id(), document.title(), document.contents(), true);
+        if (document.modifiedAt() != null && document.modifiedAt().isAfter(watermark)) {
+            watermark = document.modifiedAt();
+        }
+    }
+
+    private void apply(Long id, String title, String contents, boolean loaded) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String term : TodoTokenizer.tokenize(title)) {
+            termFrequencies.merge(term, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String term : TodoTokenizer.tokenize(contents)) {
+            termFrequencies.merge(term, 1, Integer::sum);
+        }
+        int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            if (loaded && changedWhileLoading.contains(id)) {
+                return;
+            }
+            if (!loaded) {
+                markChanged(id);
+            }
+            removeDocument(id);
+            String[] terms = new String[termFrequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+                Postings docs = postings.computeIfAbsent(entry.getKey(), key -> new Postings());
+                docs.add(id, entry.getValue());
+                // 문서마다 같은 문자열을 따로 들고 있지 않도록 postings 의 키를 공유합니다.
+                terms[i++] = docs.term(entry.getKey());
+            }
+            documents.put(id, new Document(title, terms, length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void markChanged(Long id) {
+        if (loading) {
+            changedWhileLoading.add(id);
+        }
+    }
+
+    private void startLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            changedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopLoading() {
+        lock.writeLock().lock();
+        try {
+            loading = false;
+            changedWhileLoading.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private long[] indexedIds() {
+        lock.readLock().lock();
+        try {
+            return documents.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인에 있던 id 와 DB 의 id 를 둘 다 오름차순으로 훑어, DB 에 없는 todo 를 색인에서 지웁니다.
+     */
+    private int removeDeleted(long[] indexedIds) {
+        List<Long> deleted = new ArrayList<>();
+        int next = 0;
+        Slice<Long> slice = todoRepository.findIdsAfter(0L, PageRequest.of(0, buildBatchSize));
+        while (true) {
+            for (Long id : slice) {
+                while (next < indexedIds.length && indexedIds[next] < id) {
+                    deleted.add(indexedIds[next++]);
+                }
+                if (next < indexedIds.length && indexedIds[next] == id) {
+                    next++;
+                }
+            }
+            if (!slice.hasNext()) {
+                break;
+            }
+            slice = todoRepository.findIdsAfter(slice.getContent().get(slice.getNumberOfElements() - 1), PageRequest.of(0, buildBatchSize));
+        }
+        while (next < indexedIds.length) {
+            deleted.add(indexedIds[next++]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            deleted.forEach(this::removeDocument);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return deleted.size();
+    }
+
+    private void removeDocument(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length();
+        for (String term : previous.terms()) {
+            Postings docs = postings.get(term);
+            docs.remove(id);
+            if (docs.size() == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 토큰 하나의 postings: todo id 오름차순 배열과 출현 횟수 배열
+     * 박싱 없이 id 를 이진 탐색하므로 백만 건 단위에서도 메모리와 교집합 비용이 작습니다.
+     * 새 todo 는 id 가 커지는 순서로 들어오므로 대부분 뒤에 붙이기만 합니다.
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int[] frequencies = new int[4];
+        private int size;
+        private String term;
+
+        int size() {
+            return size;
+        }
+
+        String term(String term) {
+            if (this.term == null) {
+                this.term = term;
+            }
+            return this.term;
+        }
+
+        int frequency(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            return index >= 0 ? frequencies[index] : 0;
+        }
+
+        void add(long id, int frequency) {
+            int index = size > 0 && ids[size - 1] < id ? -(size + 1) : Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                frequencies[index] = frequency;
+                return;
+            }
+            index = -(index + 1);
+            if (size == ids.length) {
+                int capacity = size + (size >> 1);
+                ids = Arrays.copyOf(ids, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            System.arraycopy(frequencies, index, frequencies, index + 1, size - index);
+            ids[index] = id;
+            frequencies[index] = frequency;
+            size++;
+        }
+
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            System.arraycopy(frequencies, index + 1, frequencies, index, size - index - 1);
+            size--;
+        }
+    }
+}
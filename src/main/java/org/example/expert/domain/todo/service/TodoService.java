@@ -2,30 +2,70 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.TodoCounts;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoRow;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
+import org.example.expert.domain.manager.repository.ManagerRepository;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_DELETE_ATTEMPTS = 3;
+
     private final TodoRepository todoRepository;
+    private final CommentRepository commentRepository;
+    private final ManagerRepository managerRepository;
     private final WeatherClient weatherClient;
+    private final TodoCounter todoCounter;
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoDetailCache todoDetailCache;
+
+    // 댓글/담당자를 한 트랜잭션에서 지울 최대 행 수
+    @Value("${todo.delete.chunk-size:1000}")
+    private int deleteChunkSize = 1000;
 
-    @Transactional
+    /**
+     * 날씨 조회는 외부 호출이므로 트랜잭션 밖에서 먼저 끝내고, 저장만 repository 의 트랜잭션에서 실행합니다.
+     * 날씨 API 가 느려도 DB 커넥션을 붙잡지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
@@ -48,36 +88,164 @@ public class TodoService {
         );
     }
 
-    public Page<TodoResponse> getTodos(int page, int size) {
+    /**
+     * 날씨는 한 번만 조회하고, todo 와 작성자 담당자 행을 saveAll 의 한 트랜잭션에서 저장합니다.
+     * id 를 미리 할당받으므로 insert 는 flush 때 JDBC batch 로 나갑니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoBatchSaveResponse saveTodos(AuthUser authUser, TodoBatchSaveRequest todoBatchSaveRequest) {
+        User user = User.fromAuthUser(authUser);
+
+        String weather = weatherClient.getTodayWeather();
+
+        List<Todo> newTodos = todoBatchSaveRequest.getTodos().stream()
+                .map(todo -> new Todo(todo.getTitle(), todo.getContents(), weather, user))
+                .toList();
+        List<Long> ids = todoRepository.saveAll(newTodos).stream()
+                .map(Todo::getId)
+                .toList();
+
+        return new TodoBatchSaveResponse(ids, weather);
+    }
+
+    /**
+     * includeContents 가 false 이면 contents 컬럼을 읽지 않고 null 로 반환합니다.
+     * includeCounts 가 true 이면 페이지의 댓글/담당자 수를 쿼리 한 번으로 함께 읽습니다.
+     */
+    public Page<TodoResponse> getTodos(int page, int size, boolean includeContents, boolean includeCounts) {
+        Pageable pageable = PageRequest.of(page - 1, size);
+
+        Slice<TodoRow> todos = findRows(pageable, includeContents);
+
+        return new PageImpl<>(toResponses(todos.getContent(), includeCounts), pageable, todoRepository.count());
+    }
+
+    /**
+     * countMode 에 따라 전체 개수를 COUNT 쿼리로 구하거나, 근사값을 쓰거나, 생략합니다.
+     */
+    public TodoPageResponse getTodoPage(int page, int size, boolean includeContents, boolean includeCounts, TodoCountMode countMode) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.findAllByOrderByModifiedAtDesc(pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        Slice<TodoRow> todos = findRows(pageable, includeContents);
+        List<TodoResponse> content = toResponses(todos.getContent(), includeCounts);
+
+        Long totalElements = switch (countMode) {
+            case EXACT -> todoRepository.count();
+            case APPROXIMATE -> todoCounter.approximateCount();
+            case NONE -> null;
+        };
+        return new TodoPageResponse(content, page, size, todos.hasNext(), totalElements, countMode == TodoCountMode.EXACT);
     }
 
+    public TodoCursorResponse getTodosByCursor(String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        Pageable pageable = PageRequest.of(0, size);
+
+        Slice<TodoRow> todos;
+        if (cursor == null || cursor.isBlank()) {
+            todos = todoRepository.findFirstPage(pageable);
+        } else {
+            TodoCursor after = TodoCursor.decode(cursor);
+            todos = todoRepository.findPageAfter(after.modifiedAt(), after.id(), pageable);
+        }
+
+        List<TodoResponse> todoResponses = todos.map(TodoRow::toResponse).getContent();
+
+        String nextCursor = null;
+        if (todos.hasNext()) {
+            TodoRow last = todos.getContent().get(todos.getNumberOfElements() - 1);
+            nextCursor = new TodoCursor(last.modifiedAt(), last.id()).encode();
+        }
+        return new TodoCursorResponse(todoResponses, nextCursor);
+    }
+
+    /**
+     * 메모리 검색 색인에서 조회하므로 DB 를 읽지 않습니다.
+     */
+    public List<TodoSearchResponse> searchTodos(String query, int size) {
+        if (!StringUtils.hasText(query)) {
+            throw new InvalidRequestException("검색어를 입력해주세요.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new InvalidRequestException("size 는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        return todoSearchIndex.search(query, size);
+    }
+
+    /**
+     * 캐시 적중 때는 트랜잭션을 열지 않으므로 DB 커넥션을 받지 않습니다.
+     * 캐시에 없을 때만 repository 의 읽기 전용 트랜잭션에서 읽습니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findTodoById(todoId)
+        return todoDetailCache.get(todoId, () -> todoRepository.findRowById(todoId)
+                .map(TodoRow::toResponse)
+                .orElseThrow(() -> new InvalidRequestException("Todo not found")));
+    }
+
+    /**
+     * 작성자만 삭제할 수 있습니다.
+     * 댓글과 담당자를 chunk 단위 bulk delete 로 지운 뒤 todo 를 지웁니다. chunk 마다 트랜잭션을 새로 열어 행 잠금을 짧게 유지합니다.
+     * 지우는 동안 댓글이 추가되어 todo 삭제가 외래키에 걸리면 남은 행을 다시 지우고 재시도합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void deleteTodo(AuthUser authUser, long todoId) {
+        Long ownerId = todoRepository.findOwnerIdById(todoId)
                 .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        if (!ownerId.equals(authUser.getId())) {
+            throw new InvalidRequestException("해당 일정을 만든 유저가 유효하지 않습니다.");
+        }
 
-        User user = todo.getUser();
+        int deleted;
+        for (int attempt = 1; ; attempt++) {
+            deleteInChunks(commentRepository::deleteByIds, pageable -> commentRepository.findIdsByTodoId(todoId, pageable));
+            deleteInChunks(managerRepository::deleteByIds, pageable -> managerRepository.findIdsByTodoId(todoId, pageable));
+            try {
+                deleted = todoRepository.deleteTodoById(todoId);
+                break;
+            } catch (DataIntegrityViolationException e) {
+                if (attempt == MAX_DELETE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
 
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+        // bulk delete 는 엔티티 리스너를 거치지 않으므로 직접 반영합니다.
+        // 다른 요청이 먼저 지워 0건이면 개수는 그 요청이 이미 줄였습니다.
+        if (deleted == 1) {
+            todoCounter.add(-1);
+        }
+        todoSearchIndex.remove(todoId);
+        todoDetailCache.invalidate(todoId);
+    }
+
+    // 읽은 id 가 하나도 지워지지 않으면 다른 요청이 이미 지운 것이므로 같은 chunk 를 반복하지 않고 멈춥니다.
+    private void deleteInChunks(ToIntFunction<List<Long>> delete, Function<Pageable, List<Long>> findIds) {
+        List<Long> ids;
+        while (!(ids = findIds.apply(PageRequest.of(0, deleteChunkSize))).isEmpty()) {
+            if (delete.applyAsInt(ids) == 0) {
+                return;
+            }
+        }
+    }
+
+    private List<TodoResponse> toResponses(List<TodoRow> rows, boolean includeCounts) {
+        if (!includeCounts || rows.isEmpty()) {
+            return rows.stream().map(TodoRow::toResponse).toList();
+        }
+
+        Map<Long, TodoCounts> counts = todoRepository.findCountsByIdIn(rows.stream().map(TodoRow::id).toList()).stream()
+                .collect(Collectors.toMap(TodoCounts::todoId, Function.identity()));
+        return rows.stream()
+                .map(row -> row.toResponse(counts.get(row.id())))
+                .toList();
+    }
+
+    private Slice<TodoRow> findRows(Pageable pageable, boolean includeContents) {
+        return includeContents
+                ? todoRepository.findRows(pageable)
+                : todoRepository.findSummaryRows(pageable);
     }
 }
@@ -0,0 +1,55 @@
+package org.example.expert.domain.todo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색 색인용 토크나이저
+ * 글자/숫자가 아닌 문자로 나누고 소문자로 바꿉니다.
+ * 한글은 조사가 붙어 단어 단위로는 잘 맞지 않으므로 두 글자씩 끊은 bigram 도 함께 만듭니다. (예: "회의록을" -> 회의, 의록, 록을)
+ */
+public final class TodoTokenizer {
+
+    private TodoTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addWord(tokens, text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addWord(List<String> tokens, String word) {
+        if (!containsHangul(word) || word.length() <= 2) {
+            tokens.add(word);
+            return;
+        }
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            tokens.add(word.substring(i, i + 2));
+        }
+    }
+
+    private static boolean containsHangul(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeScript.of(word.charAt(i)) == Character.UnicodeScript.HANGUL) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
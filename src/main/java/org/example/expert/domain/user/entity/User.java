@@ -6,14 +6,23 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 @Getter
 @Entity
 @NoArgsConstructor
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// 권한만 바꿀 때 캐시에서 읽은 오래된 비밀번호로 덮어쓰지 않도록 바뀐 컬럼만 update 합니다.
+@DynamicUpdate
 @Table(name = "users")
 public class User extends Timestamped {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = "id_blocks", pkColumnName = "entity", valueColumnName = "next_val",
+            pkColumnValue = "users", allocationSize = 100)
     private Long id;
     @Column(unique = true)
     private String email;
@@ -2,15 +2,34 @@ package org.example.expert.domain.user.enums;
 
 import org.example.expert.domain.common.exception.InvalidRequestException;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
 
 public enum UserRole {
     ADMIN, USER;
 
+    // 요청마다 values() 를 순회하지 않도록 이름으로 바로 찾는 테이블
+    private static final Map<String, UserRole> BY_NAME = new HashMap<>();
+
+    static {
+        for (UserRole role : values()) {
+            BY_NAME.put(role.name(), role);
+        }
+    }
+
     public static UserRole of(String role) {
-        return Arrays.stream(UserRole.values())
-                .filter(r -> r.name().equalsIgnoreCase(role))
-                .findFirst()
-                .orElseThrow(() -> new InvalidRequestException("유효하지 않은 UerRole"));
+        if (role == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+
+        UserRole userRole = BY_NAME.get(role);
+        if (userRole == null) {
+            userRole = BY_NAME.get(role.toUpperCase(Locale.ROOT));
+        }
+        if (userRole == null) {
+            throw new InvalidRequestException("유효하지 않은 UerRole");
+        }
+        return userRole;
     }
 }
@@ -1,11 +1,42 @@
 package org.example.expert.domain.user.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.expert.domain.user.entity.User;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     boolean existsByEmail(String email);
+
+    /*
+     * 인증용 조회: 2차 캐시는 서버마다 따로 있어 다른 서버에서 바꾼 비밀번호/권한이 늦게 보일 수 있으므로
+     * 캐시를 읽지도 채우지도 않고, 읽기 전용이 아닌 트랜잭션으로 실행해 replica 가 아닌 primary 에서 읽습니다.
+     */
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT u FROM User u WHERE u.email = :email")
+    Optional<User> findCredentialsByEmail(@Param("email") String email);
+
+    @Transactional
+    @QueryHints({
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findCredentialsById(@Param("userId") Long userId);
+
+    // 주어진 id 중 존재하는 것만 반환합니다.
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Long> findIdsByIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,13 @@
+package org.example.expert.domain.user.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+public interface UserRepositoryCustom {
+
+    /*
+     * 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않도록 기존 해시가 같을 때만 갱신하고, 갱신한 행 수를 반환합니다.
+     * bulk update 는 User 캐시 영역 전체를 비우므로, 행을 잠그고 읽은 엔티티를 바꿔 이 유저의 캐시 항목만 갱신합니다.
+     */
+    @Transactional
+    int updatePasswordIfUnchanged(Long userId, String oldPassword, String newPassword);
+}
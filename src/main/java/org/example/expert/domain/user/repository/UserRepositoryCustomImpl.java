@@ -0,0 +1,22 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.user.entity.User;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public int updatePasswordIfUnchanged(Long userId, String oldPassword, String newPassword) {
+        User user = entityManager.find(User.class, userId, LockModeType.PESSIMISTIC_WRITE);
+        if (user == null || !user.getPassword().equals(oldPassword)) {
+            return 0;
+        }
+        user.changePassword(newPassword);
+        return 1;
+    }
+}
@@ -23,20 +23,27 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
-    @Transactional
+    /**
+     * BCrypt 는 해시 풀에서 기다릴 수 있으므로 트랜잭션 밖에서 실행해, 그동안 DB 커넥션을 붙잡지 않습니다.
+     * 유저 조회와 갱신은 각각 짧은 repository 트랜잭션으로 실행하고, 그 사이 비밀번호가 바뀌었다면 덮어쓰지 않습니다.
+     */
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
 
         if (passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), userChangePasswordRequest.getNewPassword())) {
             throw new InvalidRequestException("새 비밀번호는 기존 비밀번호와 같을 수 없습니다.");
         }
 
-        User user = userRepository.findById(userId)
+        User user = userRepository.findCredentialsById(userId)
                 .orElseThrow(() -> new InvalidRequestException("User not found"));
+        String oldPassword = user.getPassword();
 
-        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), user.getPassword())) {
+        if (!passwordEncoder.matches(userChangePasswordRequest.getOldPassword(), oldPassword)) {
             throw new InvalidRequestException("잘못된 비밀번호입니다.");
         }
 
-        user.changePassword(passwordEncoder.encode(userChangePasswordRequest.getNewPassword()));
+        String newPassword = passwordEncoder.encode(userChangePasswordRequest.getNewPassword());
+        if (userRepository.updatePasswordIfUnchanged(userId, oldPassword, newPassword) == 0) {
+            throw new InvalidRequestException("비밀번호가 다른 요청에서 변경되었습니다. 다시 시도해주세요.");
+        }
     }
 }
@@ -0,0 +1,120 @@
+package org.example.expert.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Mock
+    private Clock clock;
+
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(NOW);
+        circuitBreaker = new CircuitBreaker(4, 4, 0.5, 1000, 2, clock);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수를 채우기 전에는 실패해도 열리지 않습니다.")
+    void stays_closed_below_minimum_calls() {
+        //when
+        fail(3);
+
+        //then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 열리고 호출을 바로 거절합니다.")
+    void opens_on_failure_rate() {
+        //when
+        succeed(2);
+        fail(2);
+
+        //then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.rejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 창에서 밀려나 실패율 계산에서 빠집니다.")
+    void sliding_window() {
+        //when
+        fail(1);
+        succeed(4);
+        fail(1);
+
+        //then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출만 허용하고, 모두 성공하면 닫힙니다.")
+    void half_open_then_close() {
+        //given
+        fail(4);
+        given(clock.millis()).willReturn(NOW + 1000);
+
+        //when
+        boolean first = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        boolean third = circuitBreaker.tryAcquire();
+
+        //then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열립니다.")
+    void half_open_then_open() {
+        //given
+        fail(4);
+        given(clock.millis()).willReturn(NOW + 1000);
+
+        //when
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+
+        //then
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void succeed(int count) {
+        for (int i = 0; i < count; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onSuccess();
+        }
+    }
+
+    private void fail(int count) {
+        for (int i = 0; i < count; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+    }
+}
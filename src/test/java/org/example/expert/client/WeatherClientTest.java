@@ -1,20 +1,41 @@
 package org.example.expert.client;
 
+import com.sun.net.httpserver.HttpServer;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
@@ -23,6 +44,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -108,4 +131,391 @@ class WeatherClientTest {
             .isInstanceOf(ServerException.class)
             .hasMessageContaining("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다");
     }
+
+    @Test
+    @DisplayName("같은 날에는 원격 API 를 한 번만 호출한다")
+    void getTodayWeather_Cached() {
+        // given
+        WeatherDto[] weatherData = new WeatherDto[]{new WeatherDto(today, "맑음")};
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .thenReturn(new ResponseEntity<>(weatherData, HttpStatus.OK));
+
+        // when
+        weatherClient.getTodayWeather();
+        String result = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(result).isEqualTo("맑음");
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("자정 전에 미리 받아 둔 내일 날씨는 날짜가 바뀐 뒤 원격 호출 없이 반환한다")
+    void prefetchTomorrow() {
+        // given
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(Instant.parse("2024-03-01T23:50:00Z"));
+        WeatherClient client = new WeatherClient(restTemplateBuilder, clock);
+
+        WeatherDto[] weatherData = new WeatherDto[]{
+            new WeatherDto("03-01", "맑음"),
+            new WeatherDto("03-02", "흐림")
+        };
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .thenReturn(new ResponseEntity<>(weatherData, HttpStatus.OK));
+
+        // when
+        client.prefetchTomorrow();
+        when(clock.instant()).thenReturn(Instant.parse("2024-03-02T00:00:01Z"));
+        String result = client.getTodayWeather();
+
+        // then
+        assertThat(result).isEqualTo("흐림");
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("내일 날씨를 미리 받는 조회에 합류했는데 오늘 날씨가 없으면 오늘 날씨를 다시 조회한다")
+    void getTodayWeather_JoinedPrefetch() throws Exception {
+        // given
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(Instant.parse("2024-03-01T23:50:00Z"));
+        WeatherClient client = new WeatherClient(restTemplateBuilder, clock);
+
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 1) {
+                fetching.countDown();
+                release.await();
+                return new ResponseEntity<>(new WeatherDto[]{new WeatherDto("03-02", "흐림")}, HttpStatus.OK);
+            }
+            return new ResponseEntity<>(new WeatherDto[]{
+                new WeatherDto("03-01", "맑음"),
+                new WeatherDto("03-02", "흐림")
+            }, HttpStatus.OK);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            executor.submit(client::prefetchTomorrow);
+            fetching.await();
+            Future<String> result = executor.submit(client::getTodayWeather);
+
+            // when
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("맑음");
+            assertThat(calls).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("원격 API 를 사용할 수 없으면 마지막으로 조회한 날씨를 반환한다")
+    void getTodayWeather_ServeLastKnown() {
+        // given
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(Instant.parse("2024-03-01T12:00:00Z"));
+        WeatherClient client = new WeatherClient(restTemplateBuilder, clock);
+
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .thenReturn(new ResponseEntity<>(new WeatherDto[]{new WeatherDto("03-01", "맑음")}, HttpStatus.OK))
+            .thenThrow(new ResourceAccessException("connection refused"));
+        client.getTodayWeather();
+
+        // when
+        when(clock.instant()).thenReturn(Instant.parse("2024-03-02T12:00:00Z"));
+        String result = client.getTodayWeather();
+
+        // then
+        assertThat(result).isEqualTo("맑음");
+    }
+
+    @Test
+    @DisplayName("캐시가 비어 있을 때 동시에 들어온 요청은 한 번의 조회를 함께 기다린다")
+    void getTodayWeather_SingleFlight() throws Exception {
+        // given
+        CountDownLatch fetching = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        WeatherDto[] weatherData = new WeatherDto[]{new WeatherDto(today, "맑음")};
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class))).thenAnswer(invocation -> {
+            fetching.countDown();
+            release.await();
+            return new ResponseEntity<>(weatherData, HttpStatus.OK);
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(weatherClient::getTodayWeather));
+            fetching.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(weatherClient::getTodayWeather));
+            }
+
+            // when
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("맑음");
+            }
+            verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷이 있으면 원격 API 를 사용할 수 없어도 새로 뜬 노드가 해당 날짜의 날씨를 반환한다")
+    void getTodayWeather_FromSnapshot(@TempDir Path tempDir) {
+        // given
+        Path snapshot = tempDir.resolve("weather.snapshot");
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(Instant.parse("2024-03-01T12:00:00Z"));
+
+        WeatherClient warmNode = new WeatherClient(restTemplateBuilder, clock);
+        ReflectionTestUtils.setField(warmNode, "snapshotFile", snapshot.toString());
+        WeatherDto[] weatherData = new WeatherDto[]{
+            new WeatherDto("03-01", "맑음"),
+            new WeatherDto("03-05", "비"),
+            new WeatherDto("02-29", "눈")
+        };
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .thenReturn(new ResponseEntity<>(weatherData, HttpStatus.OK))
+            .thenThrow(new ResourceAccessException("connection refused"));
+        warmNode.getTodayWeather();
+
+        // when
+        when(clock.instant()).thenReturn(Instant.parse("2024-03-05T09:00:00Z"));
+        WeatherClient coldNode = new WeatherClient(restTemplateBuilder, clock);
+        ReflectionTestUtils.setField(coldNode, "snapshotFile", snapshot.toString());
+        coldNode.loadSnapshot();
+        String result = coldNode.getTodayWeather();
+
+        // then
+        assertThat(result).isEqualTo("비");
+        assertThat(snapshot).exists();
+        verify(restTemplate, times(1)).getForEntity(any(URI.class), eq(WeatherDto[].class));
+    }
+
+    @Test
+    @DisplayName("깨진 스냅샷은 무시하고 원격 API 로 다시 채운다")
+    void loadSnapshot_Corrupted(@TempDir Path tempDir) throws Exception {
+        // given
+        Path snapshot = tempDir.resolve("weather.snapshot");
+        Files.write(snapshot, new byte[]{1, 2, 3});
+        ReflectionTestUtils.setField(weatherClient, "snapshotFile", snapshot.toString());
+        when(restTemplate.getForEntity(any(URI.class), eq(WeatherDto[].class)))
+            .thenReturn(new ResponseEntity<>(new WeatherDto[]{new WeatherDto(today, "맑음")}, HttpStatus.OK));
+
+        // when
+        weatherClient.loadSnapshot();
+        String result = weatherClient.getTodayWeather();
+
+        // then
+        assertThat(result).isEqualTo("맑음");
+    }
+
+    @Test
+    @DisplayName("응답이 늦은 서버는 읽기 타임아웃 안에 실패하고, 실패가 쌓이면 더 이상 호출하지 않는다")
+    void getTodayWeather_TimeoutAndCircuitBreaker() throws Exception {
+        // given
+        AtomicInteger requests = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            requests.incrementAndGet();
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        WeatherClient client = stubServerClient(server);
+        try {
+            // when
+            long start = System.nanoTime();
+            for (int i = 0; i < 5; i++) {
+                assertThatThrownBy(client::getTodayWeather)
+                    .isInstanceOf(ServerException.class)
+                    .hasMessageContaining("날씨 데이터를 가져오는데 실패했습니다");
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(elapsedMillis).isLessThan(5 * 1000);
+            assertThat(client.circuitBreaker(client.getMirrors().get(0)).state()).isEqualTo(CircuitBreaker.State.OPEN);
+            assertThatThrownBy(client::getTodayWeather)
+                .isInstanceOf(ServerException.class)
+                .hasMessage("날씨 API 장애로 호출을 잠시 중단했습니다.");
+            assertThat(requests.get()).isEqualTo(5);
+        } finally {
+            client.destroy();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("풀링된 HTTP 클라이언트로 로컬 서버의 날씨를 조회한다")
+    void getTodayWeather_StubServer() throws Exception {
+        // given
+        byte[] body = ("[{\"date\":\"" + today + "\",\"weather\":\"맑음\"}]").getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+
+        WeatherClient client = stubServerClient(server);
+        try {
+            // when
+            String result = client.getTodayWeather();
+
+            // then
+            assertThat(result).isEqualTo("맑음");
+            assertThat(client.circuitBreaker(client.getMirrors().get(0)).state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        } finally {
+            client.destroy();
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("첫 주소가 지연 기준 안에 답하지 않으면 다음 주소로 요청을 더 보내고 먼저 온 응답을 쓴다")
+    void getTodayWeather_Hedged() throws Exception {
+        // given
+        HttpServer slow = weatherServer(today, "흐림", 2000);
+        HttpServer fast = weatherServer(today, "맑음", 0);
+        WeatherClient client = stubServerClient(slow, fast);
+        try {
+            // when
+            long start = System.nanoTime();
+            String result = client.getTodayWeather();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(result).isEqualTo("맑음");
+            assertThat(elapsedMillis).isLessThan(1500);
+            assertThat(client.hedgedRequestCount()).isEqualTo(1);
+            // 중단된 요청은 장애로 세지 않습니다.
+            assertThat(client.circuitBreaker(stubUrl(slow)).state()).isEqualTo(CircuitBreaker.State.CLOSED);
+        } finally {
+            client.destroy();
+            slow.stop(0);
+            fast.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("첫 주소가 빨리 답하면 추가 요청을 보내지 않는다")
+    void getTodayWeather_NoHedge() throws Exception {
+        // given
+        HttpServer primary = weatherServer(today, "맑음", 0);
+        HttpServer secondary = weatherServer(today, "흐림", 0);
+        WeatherClient client = stubServerClient(primary, secondary);
+        try {
+            // when
+            String result = client.getTodayWeather();
+
+            // then
+            assertThat(result).isEqualTo("맑음");
+            assertThat(client.hedgedRequestCount()).isZero();
+        } finally {
+            client.destroy();
+            primary.stop(0);
+            secondary.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("원격 주소가 실패하면 기다리지 않고 로컬 파일 주소에서 읽는다")
+    void getTodayWeather_FileMirror(@TempDir Path tempDir) throws Exception {
+        // given
+        HttpServer failing = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        failing.createContext("/f-api/weather.json", exchange -> {
+            exchange.sendResponseHeaders(500, -1);
+            exchange.close();
+        });
+        failing.start();
+        Path file = tempDir.resolve("weather.json");
+        Files.writeString(file, "[{\"date\":\"" + today + "\",\"weather\":\"눈\"}]");
+
+        WeatherClient client = new WeatherClient(new RestTemplateBuilder());
+        ReflectionTestUtils.setField(client, "mirrors", List.of(stubUrl(failing), file.toUri().toString()));
+        ReflectionTestUtils.setField(client, "hedgeInitialDelayMillis", 10_000L);
+        client.initHttpClient();
+        try {
+            // when
+            long start = System.nanoTime();
+            String result = client.getTodayWeather();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // then
+            assertThat(result).isEqualTo("눈");
+            assertThat(elapsedMillis).isLessThan(5000);
+        } finally {
+            client.destroy();
+            failing.stop(0);
+        }
+    }
+
+    private HttpServer weatherServer(String date, String weather, long delayMillis) throws Exception {
+        byte[] body = ("[{\"date\":\"" + date + "\",\"weather\":\"" + weather + "\"}]").getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/f-api/weather.json", exchange -> {
+            try {
+                Thread.sleep(delayMillis);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                // 클라이언트가 요청을 중단한 경우
+            } finally {
+                exchange.close();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        return server;
+    }
+
+    private WeatherClient stubServerClient(HttpServer primary, HttpServer secondary) {
+        WeatherClient client = new WeatherClient(new RestTemplateBuilder());
+        ReflectionTestUtils.setField(client, "mirrors", List.of(stubUrl(primary), stubUrl(secondary)));
+        ReflectionTestUtils.setField(client, "hedgeInitialDelayMillis", 100L);
+        ReflectionTestUtils.setField(client, "readTimeoutMillis", 5000L);
+        client.initHttpClient();
+        return client;
+    }
+
+    private WeatherClient stubServerClient(HttpServer server) {
+        WeatherClient client = new WeatherClient(new RestTemplateBuilder());
+        ReflectionTestUtils.setField(client, "mirrors", List.of(stubUrl(server)));
+        ReflectionTestUtils.setField(client, "readTimeoutMillis", 200L);
+        client.initHttpClient();
+        return client;
+    }
+
+    private String stubUrl(HttpServer server) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + "/f-api/weather.json";
+    }
 }
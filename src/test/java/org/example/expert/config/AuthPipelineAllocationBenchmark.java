@@ -0,0 +1,114 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * JwtFilter -> AuthUserArgumentResolver 구간에서 요청 하나당 할당되는 바이트를 측정합니다.
+ * 기존 방식(매 요청 서명 검증, attribute 3개, UserRole stream 조회)과 현재 방식을 같은 요청으로 비교합니다.
+ */
+@Tag("benchmark")
+class AuthPipelineAllocationBenchmark {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("요청 하나당 인증 파이프라인 할당량을 비교합니다.")
+    void allocationPerRequest() throws Exception {
+        //given
+        JwtUtil jwtUtil = new JwtUtil();
+        jwtUtil.init();
+        String bearerToken = jwtUtil.createToken(1L, "test@test.com", UserRole.USER);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/todos");
+        request.addHeader("Authorization", bearerToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        NativeWebRequest webRequest = new ServletWebRequest(request);
+        FilterChain chain = (req, res) -> {
+        };
+
+        JwtFilter jwtFilter = new JwtFilter(jwtUtil, mock(TokenRevocationService.class));
+        AuthUserArgumentResolver resolver = new AuthUserArgumentResolver();
+
+        //when
+        long legacyBytes = bytesPerRequest(() -> legacyPipeline(jwtUtil, request));
+        long currentBytes = bytesPerRequest(() -> {
+            jwtFilter.doFilter(request, response, chain);
+            resolver.resolveArgument(null, null, webRequest, null);
+        });
+
+        //then
+        System.out.printf("auth pipeline allocation: legacy=%d B/req, current=%d B/req%n", legacyBytes, currentBytes);
+        assertThat(currentBytes).isLessThan(legacyBytes);
+    }
+
+    // 변경 전 JwtFilter + AuthUserArgumentResolver 가 하던 일
+    private void legacyPipeline(JwtUtil jwtUtil, HttpServletRequest request) {
+        String url = request.getRequestURI();
+        if (url.startsWith("/auth")) {
+            return;
+        }
+
+        String jwt = jwtUtil.substringToken(request.getHeader("Authorization"));
+        Claims claims = Optional.ofNullable(jwtUtil.extractClaims(jwt)).orElseThrow();
+        UserRole userRole = UserRole.valueOf(claims.get("userRole", String.class));
+
+        request.setAttribute("userId", Long.parseLong(claims.getSubject()));
+        request.setAttribute("email", claims.get("email"));
+        request.setAttribute("userRole", claims.get("userRole"));
+
+        if (url.startsWith("/admin") && !UserRole.ADMIN.equals(userRole)) {
+            return;
+        }
+
+        String role = (String) request.getAttribute("userRole");
+        new AuthUser(
+                (Long) request.getAttribute("userId"),
+                (String) request.getAttribute("email"),
+                Arrays.stream(UserRole.values())
+                        .filter(r -> r.name().equalsIgnoreCase(role))
+                        .findFirst()
+                        .orElseThrow()
+        );
+    }
+
+    private long bytesPerRequest(ThrowingRunnable pipeline) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            pipeline.run();
+        }
+
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            pipeline.run();
+        }
+        return (threadMXBean.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
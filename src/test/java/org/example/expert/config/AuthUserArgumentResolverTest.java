@@ -84,9 +84,7 @@ class AuthUserArgumentResolverTest {
     @DisplayName("AuthUser 객체를 정상적으로 반환한다")
     void resolveArgument_success() {
         // given
-        request.setAttribute("userId", 1L);
-        request.setAttribute("email", "test@test.com");
-        request.setAttribute("userRole", UserRole.ADMIN.name());
+        request.setAttribute(AuthUser.ATTRIBUTE, new AuthUser(1L, "test@test.com", UserRole.ADMIN));
         when(webRequest.getNativeRequest()).thenReturn(request);
 
         // when
@@ -100,6 +98,18 @@ class AuthUserArgumentResolverTest {
         assertThat(result.getUserRole()).isEqualTo(UserRole.ADMIN);
     }
 
+    @Test
+    @DisplayName("인증 정보가 없으면 예외가 발생한다")
+    void resolveArgument_fail_when_no_auth_user() {
+        // given
+        when(webRequest.getNativeRequest()).thenReturn(request);
+
+        // when & then
+        assertThatThrownBy(() -> authUserArgumentResolver.resolveArgument(null, null, webRequest, null))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("인증 정보가 없습니다.");
+    }
+
     private static class TestController {
         @GetMapping("/test")
         public void testMethod(@Auth AuthUser authUser) {
@@ -3,8 +3,10 @@ package org.example.expert.config;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.common.exception.ServiceBusyException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -77,6 +79,24 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().get("message")).isEqualTo(errorMessage);
     }
 
+    @Test
+    @DisplayName("ServiceBusyException 발생 시 503 상태코드와 Retry-After 헤더를 반환한다")
+    void handleServiceBusyException() {
+        // given
+        String errorMessage = "요청이 많아 잠시 후 다시 시도해주세요.";
+        ServiceBusyException exception = new ServiceBusyException(errorMessage, 2);
+
+        // when
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleServiceBusyException(exception);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().get("code")).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(response.getBody().get("message")).isEqualTo(errorMessage);
+    }
+
     @Test
     @DisplayName("MethodArgumentNotValidException 발생 시 400 상태코드와 기본 에러 메시지를 반환한다")
     void handleMethodArgumentNotValidException_without_field_error() {
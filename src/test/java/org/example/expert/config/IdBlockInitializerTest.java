@@ -0,0 +1,78 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 로 id 를 받던 DB 를 흉내 내려고 id_blocks 없이 id 를 직접 넣은 행을 만듭니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PersistenceConfig.class)
+class IdBlockInitializerTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = 5000");
+    }
+
+    @Test
+    @DisplayName("id_blocks 에 행이 없으면 max(id) 뒤에서 시작하는 블록으로 채웁니다.")
+    void seed_missing_row() {
+        //given
+        jdbcTemplate.update("DELETE FROM id_blocks WHERE entity = 'users'");
+        insertUser(5000L);
+
+        //when
+        new IdBlockInitializer(dataSource).afterPropertiesSet();
+
+        //then
+        assertThat(nextVal("users")).isEqualTo(5000L + IdBlockInitializer.ALLOCATION_SIZE);
+    }
+
+    @Test
+    @DisplayName("id_blocks 값이 max(id) 보다 작으면 올리고, 이미 크면 그대로 둡니다.")
+    void raise_only() {
+        //given
+        jdbcTemplate.update("DELETE FROM id_blocks WHERE entity = 'users'");
+        jdbcTemplate.update("INSERT INTO id_blocks (entity, next_val) VALUES ('users', 1)");
+        insertUser(5000L);
+        IdBlockInitializer initializer = new IdBlockInitializer(dataSource);
+
+        //when
+        initializer.afterPropertiesSet();
+        long raised = nextVal("users");
+        jdbcTemplate.update("UPDATE id_blocks SET next_val = 9000 WHERE entity = 'users'");
+        initializer.afterPropertiesSet();
+
+        //then
+        assertThat(raised).isEqualTo(5000L + IdBlockInitializer.ALLOCATION_SIZE);
+        assertThat(nextVal("users")).isEqualTo(9000L);
+    }
+
+    private void insertUser(long id) {
+        jdbcTemplate.update("INSERT INTO users (id, email, password, user_role) VALUES (?, ?, ?, ?)",
+                id, "legacy@test.com", "password", "USER");
+    }
+
+    private long nextVal(String entity) {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM id_blocks WHERE entity = ?", Long.class, entity);
+    }
+}
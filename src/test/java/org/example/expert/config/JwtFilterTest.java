@@ -4,6 +4,8 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletResponse;
+import org.example.expert.domain.auth.service.TokenRevocationService;
+import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.ServerException;
 import org.example.expert.domain.user.enums.UserRole;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +24,10 @@ import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(SpringExtension.class)
@@ -31,6 +36,9 @@ public class JwtFilterTest {
     @Mock
     FilterChain chain;
 
+    @Mock
+    TokenRevocationService tokenRevocationService;
+
     MockHttpServletRequest servletRequest = new MockHttpServletRequest();
     MockHttpServletResponse servletResponse = new MockHttpServletResponse();
 
@@ -42,7 +50,7 @@ public class JwtFilterTest {
     @BeforeEach
     void setUp() {
         jwtUtil.init();
-        jwtFilter = new JwtFilter(jwtUtil);
+        jwtFilter = new JwtFilter(jwtUtil, tokenRevocationService);
     }
 
     @Test
@@ -58,9 +66,62 @@ public class JwtFilterTest {
 
         //then
         verify(chain).doFilter(servletRequest, servletResponse);
-        assertThat(servletRequest.getAttribute("userId")).isEqualTo(1L);
-        assertThat(servletRequest.getAttribute("email")).isEqualTo("test@test.com");
-        assertThat(servletRequest.getAttribute("userRole")).isEqualTo(UserRole.USER.name());
+        AuthUser authUser = (AuthUser) servletRequest.getAttribute(AuthUser.ATTRIBUTE);
+        assertThat(authUser.getId()).isEqualTo(1L);
+        assertThat(authUser.getEmail()).isEqualTo("test@test.com");
+        assertThat(authUser.getUserRole()).isEqualTo(UserRole.USER);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 요청하면 캐시된 검증 결과를 사용합니다.")
+    void doFilter_cached_token() throws Exception {
+        //given
+        String token = jwtUtil.createToken(1L, "test@test.com", UserRole.USER);
+        servletRequest.setRequestURI("/delete");
+        servletRequest.addHeader("Authorization", token);
+        jwtFilter.doFilter(servletRequest, servletResponse, chain);
+
+        //when
+        jwtFilter.doFilter(servletRequest, new MockHttpServletResponse(), chain);
+
+        //then
+        assertThat(jwtUtil.getTokenCache().missCount()).isEqualTo(1);
+        assertThat(jwtUtil.getTokenCache().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰은 만료 전이라도 401을 응답합니다.")
+    void doFilter_revoked_token() throws Exception {
+        //given
+        String token = jwtUtil.createToken(1L, "test@test.com", UserRole.USER);
+        servletRequest.setRequestURI("/delete");
+        servletRequest.addHeader("Authorization", token);
+        given(tokenRevocationService.isRevoked(eq(1L), anyLong())).willReturn(true);
+
+        //when
+        jwtFilter.doFilter(servletRequest, servletResponse, chain);
+
+        //then
+        verifyNoInteractions(chain);
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(servletResponse.getErrorMessage()).isEqualTo("폐기된 JWT 토큰입니다.");
+    }
+
+    @Test
+    @DisplayName("refresh 토큰으로 API 를 호출하면 예외 상태코드와 메시지를 응답합니다.")
+    void doFilter_refresh_token() throws Exception {
+        //given
+        String refreshToken = jwtUtil.createRefreshToken(1L);
+        servletRequest.setRequestURI("/delete");
+        servletRequest.addHeader("Authorization", "Bearer " + refreshToken);
+
+        //when
+        jwtFilter.doFilter(servletRequest, servletResponse, chain);
+
+        //then
+        verifyNoInteractions(chain);
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpServletResponse.SC_BAD_REQUEST);
+        assertThat(servletResponse.getErrorMessage()).isEqualTo("지원되지 않는 JWT 토큰입니다.");
     }
 
     @Test
@@ -122,9 +183,10 @@ public class JwtFilterTest {
 
         //then
         verify(chain).doFilter(servletRequest, servletResponse);
-        assertThat(servletRequest.getAttribute("userId")).isEqualTo(1L);
-        assertThat(servletRequest.getAttribute("email")).isEqualTo("test@test.com");
-        assertThat(servletRequest.getAttribute("userRole")).isEqualTo(UserRole.ADMIN.name());
+        AuthUser authUser = (AuthUser) servletRequest.getAttribute(AuthUser.ATTRIBUTE);
+        assertThat(authUser.getId()).isEqualTo(1L);
+        assertThat(authUser.getEmail()).isEqualTo("test@test.com");
+        assertThat(authUser.getUserRole()).isEqualTo(UserRole.ADMIN);
 
     }
     @Test
@@ -197,6 +259,29 @@ public class JwtFilterTest {
         assertThat(servletResponse.getErrorMessage()).isEqualTo("유효하지 않는 JWT 서명입니다.");
     }
 
+    @Test
+    @DisplayName("키 링에 없는 kid 로 서명한 토큰은 401을 응답합니다.")
+    void doFilter_unknown_kid() throws Exception {
+        //given
+        Key retiredKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode("cmV0aXJlZC1rZXktcmV0aXJlZC1rZXktcmV0aXJlZC1rZXk="));
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "retired")
+                .setSubject("1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(retiredKey, SignatureAlgorithm.HS256)
+                .compact();
+        servletRequest.setRequestURI("/delete");
+        servletRequest.addHeader("Authorization", "Bearer " + token);
+
+        //when
+        jwtFilter.doFilter(servletRequest, servletResponse, chain);
+
+        //then
+        assertThat(servletResponse.getStatus()).isEqualTo(HttpServletResponse.SC_UNAUTHORIZED);
+        assertThat(servletResponse.getErrorMessage()).isEqualTo("유효하지 않는 JWT 서명입니다.");
+        verify(chain, never()).doFilter(any(), any());
+    }
+
     @Test
     @DisplayName("만료된 JWT 토큰은 예외 상태코드와 메시지를 응답합니다.")
     void doFilter_expired_token() throws Exception {
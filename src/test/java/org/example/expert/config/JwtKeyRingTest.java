@@ -0,0 +1,188 @@
+package org.example.expert.config;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.security.SignatureException;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String DEFAULT_SECRET = "a1b2c3d4e5f6g7h8i9j0k1l2m3n4o5p6q7r8s9t0u1v2w3x4y5z6";
+
+    @TempDir
+    Path tempDir;
+
+    private JwtUtil jwtUtil;
+
+    @AfterEach
+    void tearDown() {
+        if (jwtUtil != null) {
+            jwtUtil.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("키 파일의 kid 로 키를 찾고 active 키로 서명합니다.")
+    void load_keys() throws Exception {
+        //given
+        Path keyFile = writeKeyFile("k1", "k1", "k2");
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, () -> {
+        });
+
+        //when
+        keyRing.load(keyFile);
+
+        //then
+        assertThat(keyRing.find("k1")).isNotNull();
+        assertThat(keyRing.find("k2")).isNotNull();
+        assertThat(keyRing.find(null)).isNotNull();
+        assertThat(keyRing.find("unknown")).isNull();
+        assertThat(keyRing.active().kid()).isEqualTo("k1");
+    }
+
+    @Test
+    @DisplayName("active 키가 바뀌어도 이전 키로 발급된 토큰을 검증합니다.")
+    void rotate_active_key() throws Exception {
+        //given
+        Path keyFile = writeKeyFile("k1", "k1");
+        jwtUtil = jwtUtilWithKeyFile(keyFile);
+        String oldToken = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+
+        //when
+        writeKeyFile("k2", "k1", "k2");
+        jwtUtil.getKeyRing().load(keyFile);
+        String newToken = jwtUtil.substringToken(jwtUtil.createToken(2L, "test@test.com", UserRole.USER));
+
+        //then
+        Claims oldClaims = jwtUtil.extractClaims(oldToken);
+        Claims newClaims = jwtUtil.extractClaims(newToken);
+        assertThat(oldClaims.getSubject()).isEqualTo("1");
+        assertThat(newClaims.getSubject()).isEqualTo("2");
+        assertThat(jwtUtil.getKeyRing().active().kid()).isEqualTo("k2");
+    }
+
+    @Test
+    @DisplayName("키 링에서 빠진 kid 로 서명된 토큰은 거부하고 검증 캐시를 비웁니다.")
+    void retire_key() throws Exception {
+        //given
+        Path keyFile = writeKeyFile("k1", "k1");
+        jwtUtil = jwtUtilWithKeyFile(keyFile);
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+        jwtUtil.authenticate(token);
+
+        //when
+        writeKeyFile("k2", "k2");
+        jwtUtil.getKeyRing().load(keyFile);
+
+        //then
+        assertThat(jwtUtil.getTokenCache().size()).isZero();
+        assertThatThrownBy(() -> jwtUtil.authenticate(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("같은 kid 의 secret 이 바뀌면 이전 secret 으로 서명된 토큰은 거부하고 검증 캐시를 비웁니다.")
+    void replace_secret() throws Exception {
+        //given
+        Path keyFile = writeKeyFile("k1", "k1");
+        jwtUtil = jwtUtilWithKeyFile(keyFile);
+        String token = jwtUtil.substringToken(jwtUtil.createToken(1L, "test@test.com", UserRole.USER));
+        jwtUtil.authenticate(token);
+
+        //when
+        String rotated = Base64.getEncoder().encodeToString(
+                "rotated-secret-for-k1-0123456789abcdefghijklmnop".getBytes(StandardCharsets.UTF_8));
+        Files.writeString(keyFile, "active=k1\nk1=" + rotated + "\n");
+        jwtUtil.getKeyRing().load(keyFile);
+
+        //then
+        assertThat(jwtUtil.getTokenCache().size()).isZero();
+        assertThatThrownBy(() -> jwtUtil.authenticate(token))
+                .isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    @DisplayName("같은 키를 다시 읽으면 검증 캐시를 그대로 둡니다.")
+    void reload_same_keys() throws Exception {
+        //given
+        Path keyFile = writeKeyFile("k1", "k1");
+        AtomicInteger changed = new AtomicInteger();
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, changed::incrementAndGet);
+        keyRing.load(keyFile);
+
+        //when
+        writeKeyFile("k1", "k1", "k2");
+        keyRing.load(keyFile);
+
+        //then
+        assertThat(changed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("키 파일이 바뀌면 실행 중에 다시 읽습니다.")
+    void watch_key_file() throws Exception {
+        //given
+        Path keyFile = writeKeyFile("k1", "k1");
+        jwtUtil = jwtUtilWithKeyFile(keyFile);
+
+        //when
+        writeKeyFile("k2", "k1", "k2");
+
+        //then
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!"k2".equals(jwtUtil.getKeyRing().active().kid()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertThat(jwtUtil.getKeyRing().active().kid()).isEqualTo("k2");
+    }
+
+    @Test
+    @DisplayName("active 로 지정한 kid 가 없으면 이전 키 링을 유지합니다.")
+    void load_invalid_active() throws Exception {
+        //given
+        Path keyFile = writeKeyFile("k1", "k1");
+        AtomicInteger removed = new AtomicInteger();
+        JwtKeyRing keyRing = new JwtKeyRing(DEFAULT_SECRET, removed::incrementAndGet);
+        keyRing.load(keyFile);
+
+        //when
+        writeKeyFile("k3", "k1");
+
+        //then
+        assertThatThrownBy(() -> keyRing.load(keyFile))
+                .hasMessageContaining("k3");
+        assertThat(keyRing.active().kid()).isEqualTo("k1");
+        assertThat(removed).hasValue(0);
+    }
+
+    private JwtUtil jwtUtilWithKeyFile(Path keyFile) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "keyFile", keyFile.toString());
+        util.init();
+        return util;
+    }
+
+    private Path writeKeyFile(String active, String... kids) throws Exception {
+        StringBuilder content = new StringBuilder("active=" + active + "\n");
+        for (String kid : kids) {
+            byte[] secret = ("secret-for-" + kid + "-0123456789abcdefghijklmnop").getBytes(StandardCharsets.UTF_8);
+            content.append(kid).append('=').append(Base64.getEncoder().encodeToString(secret)).append('\n');
+        }
+        Path keyFile = tempDir.resolve("jwt-keys.properties");
+        Files.writeString(keyFile, content);
+        return keyFile;
+    }
+}
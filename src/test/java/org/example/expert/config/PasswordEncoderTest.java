@@ -1,10 +1,22 @@
 package org.example.expert.config;
 
+import at.favre.lib.crypto.bcrypt.BCrypt;
+import org.example.expert.domain.common.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(SpringExtension.class)
@@ -13,6 +25,19 @@ class PasswordEncoderTest {
     @InjectMocks
     private PasswordEncoder passwordEncoder;
 
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(passwordEncoder, "threads", 1);
+        ReflectionTestUtils.setField(passwordEncoder, "queueCapacity", 1);
+        ReflectionTestUtils.setField(passwordEncoder, "cost", BCrypt.MIN_COST);
+        passwordEncoder.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.destroy();
+    }
+
     @Test
     void matches_메서드가_정상적으로_동작한다() {
         // given
@@ -24,5 +49,82 @@ class PasswordEncoderTest {
 
         // then
         assertTrue(matches);
+        assertEquals(2, passwordEncoder.hashCount());
+    }
+
+    @Test
+    @DisplayName("측정한 cost 는 권장값으로만 남기고 설정된 cost 로 해시합니다.")
+    void init_calibrates_suggested_cost() {
+        // given
+        PasswordEncoder calibrated = new PasswordEncoder();
+        ReflectionTestUtils.setField(calibrated, "cost", BCrypt.MIN_COST + 1);
+        ReflectionTestUtils.setField(calibrated, "calibrate", true);
+        ReflectionTestUtils.setField(calibrated, "targetMillis", 0L);
+
+        // when
+        calibrated.init();
+
+        // then
+        try {
+            assertEquals(BCrypt.MIN_COST, calibrated.suggestedCost());
+            assertEquals(BCrypt.MIN_COST + 1, calibrated.cost());
+        } finally {
+            calibrated.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 cost 가 설정된 cost 보다 낮을 때만 다시 해시해야 합니다.")
+    void needsRehash() {
+        // given
+        ReflectionTestUtils.setField(passwordEncoder, "cost", BCrypt.MIN_COST + 1);
+        String weaker = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST, "testPassword".toCharArray());
+        String current = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST + 1, "testPassword".toCharArray());
+        String stronger = BCrypt.withDefaults().hashToString(BCrypt.MIN_COST + 2, "testPassword".toCharArray());
+
+        // when & then
+        assertTrue(passwordEncoder.needsRehash(weaker));
+        assertFalse(passwordEncoder.needsRehash(current));
+        assertFalse(passwordEncoder.needsRehash(stronger));
+        assertFalse(passwordEncoder.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    @DisplayName("encodeAsync 는 해시 풀에서 현재 cost 로 해시합니다.")
+    void encodeAsync() throws Exception {
+        // when
+        String encoded = passwordEncoder.encodeAsync("testPassword").get();
+
+        // then
+        assertTrue(passwordEncoder.matches("testPassword", encoded));
+        assertFalse(passwordEncoder.needsRehash(encoded));
+    }
+
+    @Test
+    @DisplayName("해시 풀과 대기열이 가득 차면 기다리지 않고 바로 거절합니다.")
+    void encode_rejected_when_saturated() throws Exception {
+        // given
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordEncoder, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute(() -> {
+        });
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> passwordEncoder.encode("testPassword"))
+                    .isInstanceOf(ServiceBusyException.class)
+                    .hasMessage("요청이 많아 잠시 후 다시 시도해주세요.");
+            assertEquals(1, passwordEncoder.rejectedCount());
+            assertEquals(1, passwordEncoder.queueSize());
+        } finally {
+            release.countDown();
+        }
     }
 }
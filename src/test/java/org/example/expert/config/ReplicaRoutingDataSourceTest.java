@@ -0,0 +1,170 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * 서로 다른 H2 인스턴스 두 개를 primary 와 replica 로 두고 각 DB 에 자기 이름을 저장해, 어느 쪽에서 읽었는지 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long WINDOW = 5_000L;
+
+    @Mock
+    private Clock clock;
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(NOW);
+        tracker = new ReadYourWritesTracker(WINDOW, clock);
+        routingDataSource = new ReplicaRoutingDataSource(node("primary"), List.of(node("replica")), tracker);
+
+        jdbcTemplate = new JdbcTemplate(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routingDataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        jdbcTemplate.execute("DROP TABLE node");
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.execute("DROP TABLE node"));
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 에서, 나머지 트랜잭션은 primary 에서 실행합니다.")
+    void route_by_read_only() {
+        //when
+        String readOnly = readOnlyTransaction.execute(status -> currentNode());
+        String readWrite = writeTransaction.execute(status -> currentNode());
+
+        //then
+        assertThat(readOnly).isEqualTo("replica");
+        assertThat(readWrite).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("한 요청 안의 읽기 전용 트랜잭션은 처음 고른 replica 하나에서만 실행합니다.")
+    void pin_replica_per_request() {
+        //given
+        ReplicaRoutingDataSource twoReplicas = new ReplicaRoutingDataSource(
+                node("primary2"), List.of(node("replica1"), node("replica2")), tracker);
+        JdbcTemplate template = new JdbcTemplate(twoReplicas);
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(twoReplicas));
+        readOnly.setReadOnly(true);
+        login(1L);
+
+        //when
+        String first = readOnly.execute(status -> template.queryForObject("SELECT name FROM node", String.class));
+        String second = readOnly.execute(status -> template.queryForObject("SELECT name FROM node", String.class));
+        RequestContextHolder.resetRequestAttributes();
+        String withoutRequest1 = readOnly.execute(status -> template.queryForObject("SELECT name FROM node", String.class));
+        String withoutRequest2 = readOnly.execute(status -> template.queryForObject("SELECT name FROM node", String.class));
+
+        //then
+        assertThat(first).startsWith("replica").isEqualTo(second);
+        assertThat(List.of(withoutRequest1, withoutRequest2)).containsExactlyInAnyOrder("replica1", "replica2");
+        for (String name : List.of("primary2", "replica1", "replica2")) {
+            new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:" + name)).execute("DROP TABLE node");
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 유저의 읽기는 일정 시간 동안 primary 에서 실행합니다.")
+    void read_your_writes() {
+        //given
+        login(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        //when
+        String withinWindow = readOnlyTransaction.execute(status -> currentNode());
+        given(clock.millis()).willReturn(NOW + WINDOW);
+        String afterWindow = readOnlyTransaction.execute(status -> currentNode());
+
+        //then
+        assertThat(withinWindow).isEqualTo("primary");
+        assertThat(afterWindow).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("다른 유저가 쓴 직후에는 replica 에서 읽습니다.")
+    void read_your_writes_other_user() {
+        //given
+        login(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        login(2L);
+
+        //when
+        String result = readOnlyTransaction.execute(status -> currentNode());
+
+        //then
+        assertThat(result).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 기록하지 않습니다.")
+    void read_your_writes_rollback() {
+        //given
+        login(1L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        //when
+        String result = readOnlyTransaction.execute(status -> currentNode());
+
+        //then
+        assertThat(result).isEqualTo("replica");
+        assertThat(tracker.size()).isZero();
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void login(long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(AuthUser.ATTRIBUTE, new AuthUser(userId, "test@test.com", UserRole.USER));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    private DriverManagerDataSource node(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
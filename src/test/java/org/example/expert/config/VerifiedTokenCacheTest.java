@@ -0,0 +1,129 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Mock
+    private Clock clock;
+
+    private VerifiedTokenCache tokenCache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(NOW);
+        tokenCache = new VerifiedTokenCache(2, clock);
+    }
+
+    @Test
+    @DisplayName("검증된 토큰은 같은 인스턴스로 캐시에서 반환합니다.")
+    void get_hit() {
+        //given
+        VerifiedToken verifiedToken = verifiedToken(NOW + 1000);
+        tokenCache.put("token", verifiedToken, tokenCache.generation());
+
+        //when
+        VerifiedToken result = tokenCache.get("token");
+
+        //then
+        assertThat(result).isSameAs(verifiedToken);
+        assertThat(tokenCache.hitCount()).isEqualTo(1);
+        assertThat(tokenCache.missCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 토큰은 null 을 반환하고 미스로 집계합니다.")
+    void get_miss() {
+        //when
+        VerifiedToken result = tokenCache.get("token");
+
+        //then
+        assertThat(result).isNull();
+        assertThat(tokenCache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시에서 제거합니다.")
+    void get_expired() {
+        //given
+        tokenCache.put("token", verifiedToken(NOW + 1000), tokenCache.generation());
+        given(clock.millis()).willReturn(NOW + 1000);
+
+        //when
+        VerifiedToken result = tokenCache.get("token");
+
+        //then
+        assertThat(result).isNull();
+        assertThat(tokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않도록 항목을 정리합니다.")
+    void put_bounded() {
+        //when
+        tokenCache.put("token1", verifiedToken(NOW + 1000), tokenCache.generation());
+        tokenCache.put("token2", verifiedToken(NOW + 1000), tokenCache.generation());
+        tokenCache.put("token3", verifiedToken(NOW + 1000), tokenCache.generation());
+
+        //then
+        assertThat(tokenCache.size()).isEqualTo(2);
+        assertThat(tokenCache.get("token3")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("가득 차면 최대 크기의 90% 까지 한 번에 줄여 다음 put 들은 정리 없이 저장합니다.")
+    void put_evicts_in_batch() {
+        //given
+        VerifiedTokenCache largeCache = new VerifiedTokenCache(100, clock);
+        for (int i = 0; i < 100; i++) {
+            largeCache.put("token" + i, verifiedToken(NOW + 1000), largeCache.generation());
+        }
+
+        //when
+        largeCache.put("token100", verifiedToken(NOW + 1000), largeCache.generation());
+        int afterEvict = largeCache.size();
+        for (int i = 101; i < 110; i++) {
+            largeCache.put("token" + i, verifiedToken(NOW + 1000), largeCache.generation());
+        }
+
+        //then
+        assertThat(afterEvict).isEqualTo(91);
+        assertThat(largeCache.size()).isEqualTo(100);
+        assertThat(largeCache.get("token100")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("키 교체로 무효화되기 전에 시작한 검증 결과는 늦게 put 되어도 저장하지 않습니다.")
+    void put_after_invalidate_ignored() {
+        //given
+        long generation = tokenCache.generation();
+        tokenCache.invalidateAll();
+
+        //when
+        tokenCache.put("token", verifiedToken(NOW + 1000), generation);
+
+        //then
+        assertThat(tokenCache.get("token")).isNull();
+        assertThat(tokenCache.size()).isZero();
+    }
+
+    private VerifiedToken verifiedToken(long expiresAt) {
+        return new VerifiedToken(new AuthUser(1L, "test@test.com", UserRole.USER), NOW, expiresAt);
+    }
+}
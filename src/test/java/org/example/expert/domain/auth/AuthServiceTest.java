@@ -1,30 +1,40 @@
 package org.example.expert.domain.auth;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.example.expert.config.JwtUtil;
 import org.example.expert.config.PasswordEncoder;
 import org.example.expert.domain.auth.dto.request.SigninRequest;
 import org.example.expert.domain.auth.dto.request.SignupRequest;
+import org.example.expert.domain.auth.dto.request.TokenRefreshRequest;
 import org.example.expert.domain.auth.dto.response.SigninResponse;
 import org.example.expert.domain.auth.dto.response.SignupResponse;
+import org.example.expert.domain.auth.dto.response.TokenRefreshResponse;
 import org.example.expert.domain.auth.exception.AuthException;
 import org.example.expert.domain.auth.service.AuthService;
+import org.example.expert.domain.auth.service.TokenRevocationService;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServiceBusyException;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
 import org.example.expert.domain.user.repository.UserRepository;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +47,8 @@ public class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private JwtUtil jwtUtil;
+    @Mock
+    private TokenRevocationService tokenRevocationService;
     @InjectMocks
     private AuthService authService;
 
@@ -100,7 +112,7 @@ public class AuthServiceTest {
                 testPW,
                 UserRole.USER
         );
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(userRepository.findCredentialsByEmail(anyString())).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
         when(jwtUtil.createToken(any(), any(), any())).thenReturn(testToken);
 
@@ -109,17 +121,57 @@ public class AuthServiceTest {
 
         //then
         assertThat(signin.getBearerToken()).isEqualTo(testToken);
-        verify(userRepository).findByEmail(testEmail);
+        verify(userRepository).findCredentialsByEmail(testEmail);
         verify(passwordEncoder).matches(anyString(), anyString());
         verify(jwtUtil).createToken(any(), any(), any());
     }
 
+    @Test
+    @DisplayName("로그인 성공 시 cost 가 낮은 해시는 새 해시로 교체합니다.")
+    void signin_rehash() {
+        //given
+        SigninRequest signinRequest = new SigninRequest(testEmail, testPW);
+        User user = new User(testEmail, "old-hash", UserRole.USER);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        when(userRepository.findCredentialsByEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(testPW, "old-hash")).thenReturn(true);
+        when(passwordEncoder.needsRehash("old-hash")).thenReturn(true);
+        when(passwordEncoder.encodeAsync(testPW)).thenReturn(CompletableFuture.completedFuture("new-hash"));
+
+        //when
+        authService.signin(signinRequest);
+
+        //then
+        verify(userRepository).updatePasswordIfUnchanged(1L, "old-hash", "new-hash");
+    }
+
+    @Test
+    @DisplayName("해시 풀이 가득 차 해시 갱신에 실패해도 로그인은 성공합니다.")
+    void signin_rehash_rejected() {
+        //given
+        SigninRequest signinRequest = new SigninRequest(testEmail, testPW);
+        User user = new User(testEmail, "old-hash", UserRole.USER);
+        when(userRepository.findCredentialsByEmail(anyString())).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(testPW, "old-hash")).thenReturn(true);
+        when(passwordEncoder.needsRehash("old-hash")).thenReturn(true);
+        when(passwordEncoder.encodeAsync(testPW)).thenReturn(
+                CompletableFuture.failedFuture(new ServiceBusyException("요청이 많아 잠시 후 다시 시도해주세요.", 1)));
+        when(jwtUtil.createToken(any(), any(), any())).thenReturn(testToken);
+
+        //when
+        SigninResponse signin = authService.signin(signinRequest);
+
+        //then
+        assertThat(signin.getBearerToken()).isEqualTo(testToken);
+        verify(userRepository, never()).updatePasswordIfUnchanged(any(), any(), any());
+    }
+
     @Test
     @DisplayName("가입되지 않은 로그인 시도 시 예외가 발생합니다.")
     void signin_not_email() {
         //given
         SigninRequest signinRequest = new SigninRequest(testEmail, testPW);
-        when(userRepository.findByEmail(testEmail)).thenReturn(Optional.empty());
+        when(userRepository.findCredentialsByEmail(testEmail)).thenReturn(Optional.empty());
 
         //when & then
         assertThatThrownBy(() -> authService.signin(signinRequest))
@@ -136,7 +188,7 @@ public class AuthServiceTest {
                 testPW,
                 UserRole.USER
         );
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
+        when(userRepository.findCredentialsByEmail(anyString())).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
 
         //when & then
@@ -144,4 +196,41 @@ public class AuthServiceTest {
                 .isInstanceOf(AuthException.class)
                 .hasMessage("잘못된 비밀번호입니다.");
     }
+
+    @Test
+    @DisplayName("refresh 토큰으로 DB 의 유저 정보를 담은 새 토큰을 발급합니다.")
+    void refresh_success() {
+        //given
+        User user = new User(testEmail, testPW, UserRole.ADMIN);
+        ReflectionTestUtils.setField(user, "id", 1L);
+        Claims claims = Jwts.claims().setSubject("1").setIssuedAt(new Date());
+
+        when(jwtUtil.extractRefreshClaims("refresh")).thenReturn(claims);
+        when(tokenRevocationService.isRevoked(anyLong(), anyLong())).thenReturn(false);
+        when(userRepository.findCredentialsById(1L)).thenReturn(Optional.of(user));
+        when(jwtUtil.createToken(1L, testEmail, UserRole.ADMIN)).thenReturn(testToken);
+        when(jwtUtil.createRefreshToken(1L)).thenReturn("new-refresh");
+
+        //when
+        TokenRefreshResponse response = authService.refresh(new TokenRefreshRequest("refresh"));
+
+        //then
+        assertThat(response.getBearerToken()).isEqualTo(testToken);
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+    }
+
+    @Test
+    @DisplayName("폐기된 refresh 토큰으로 재발급을 요청하면 예외가 발생합니다.")
+    void refresh_revoked() {
+        //given
+        Claims claims = Jwts.claims().setSubject("1").setIssuedAt(new Date());
+        when(jwtUtil.extractRefreshClaims("refresh")).thenReturn(claims);
+        when(tokenRevocationService.isRevoked(anyLong(), anyLong())).thenReturn(true);
+
+        //when & then
+        assertThatThrownBy(() -> authService.refresh(new TokenRefreshRequest("refresh")))
+                .isInstanceOf(AuthException.class)
+                .hasMessage("폐기된 refresh 토큰입니다.");
+        verify(jwtUtil, never()).createToken(any(), any(), any());
+    }
 }
@@ -0,0 +1,97 @@
+package org.example.expert.domain.auth.service;
+
+import org.example.expert.domain.auth.entity.TokenRevocation;
+import org.example.expert.domain.auth.repository.TokenRevocationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @Mock
+    private TokenRevocationRepository tokenRevocationRepository;
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    @DisplayName("폐기 이후에 발급된 토큰은 통과하고 이전에 발급된 토큰은 거부합니다.")
+    void revoke_user() {
+        //given
+        long issuedBefore = System.currentTimeMillis() - 60_000;
+        given(tokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+
+        //when
+        tokenRevocationService.revoke(1L);
+
+        //then
+        verify(tokenRevocationRepository).save(any(TokenRevocation.class));
+        assertThat(tokenRevocationService.isRevoked(1L, issuedBefore)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(1L, System.currentTimeMillis() + 1000)).isFalse();
+        assertThat(tokenRevocationService.isRevoked(2L, issuedBefore)).isFalse();
+    }
+
+    @Test
+    @DisplayName("폐기한 시각과 같은 초에 발급된 토큰도 iat 가 초 단위로 내려지므로 거부합니다.")
+    void revoke_same_second() {
+        //given
+        long issuedAt = System.currentTimeMillis() / 1000 * 1000;
+        given(tokenRevocationRepository.findById(1L)).willReturn(Optional.empty());
+
+        //when
+        tokenRevocationService.revoke(1L);
+
+        //then
+        assertThat(tokenRevocationService.isRevoked(1L, issuedAt)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 남긴 폐기 기록을 동기화합니다.")
+    void sync_from_table() {
+        //given
+        long now = System.currentTimeMillis();
+        given(tokenRevocationRepository.findAll()).willReturn(List.of(new TokenRevocation(7L, now)));
+
+        //when
+        tokenRevocationService.sync();
+
+        //then
+        assertThat(tokenRevocationService.isRevoked(7L, now - 1000)).isTrue();
+        assertThat(tokenRevocationService.isRevoked(8L, now - 1000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("폐기 이력이 없는 유저 대부분은 Bloom filter 에서 바로 걸러집니다.")
+    void bloom_filter_false_positive_rate() {
+        //given
+        RevokedUserFilter filter = RevokedUserFilter.of(List.of());
+        for (long userId = 1; userId <= 1000; userId++) {
+            filter = filter.with(userId);
+        }
+
+        //when
+        int falsePositives = 0;
+        for (long userId = 1_000_001; userId <= 1_100_000; userId++) {
+            if (filter.mightContain(userId)) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        for (long userId = 1; userId <= 1000; userId++) {
+            assertThat(filter.mightContain(userId)).isTrue();
+        }
+        assertThat(falsePositives).isLessThan(100);
+    }
+}
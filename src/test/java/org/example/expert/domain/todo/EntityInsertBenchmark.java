@@ -0,0 +1,79 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * todo 마다 담당자 1건과 댓글 5건이 붙는 쓰기 부하에서 insert 처리량과 flush 당 JDBC statement 수를 측정합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PersistenceConfig.class)
+class EntityInsertBenchmark {
+
+    private static final int TODOS_PER_FLUSH = 100;
+    private static final int COMMENTS_PER_TODO = 5;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("todo/담당자/댓글 insert 처리량을 측정합니다.")
+    void insertThroughput() {
+        User user = new User("test@test.com", "password", UserRole.USER);
+        entityManager.persist(user);
+        entityManager.flush();
+
+        for (int i = 0; i < WARMUP; i++) {
+            insertBlock(user);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            insertBlock(user);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        long rows = (long) ITERATIONS * TODOS_PER_FLUSH * (2 + COMMENTS_PER_TODO);
+        System.out.printf("insert: %d rows/s, %d statements per flush of %d rows%n",
+                rows * 1_000_000_000L / elapsedNanos,
+                statistics.getPrepareStatementCount() / ITERATIONS,
+                TODOS_PER_FLUSH * (2 + COMMENTS_PER_TODO));
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+    }
+
+    private void insertBlock(User user) {
+        for (int i = 0; i < TODOS_PER_FLUSH; i++) {
+            Todo todo = new Todo("title" + i, "contents" + i, "맑음", user);
+            entityManager.persist(todo);
+            for (int j = 0; j < COMMENTS_PER_TODO; j++) {
+                entityManager.persist(new Comment("comment" + j, user, todo));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        user = entityManager.getReference(User.class, user.getId());
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TodoCounterTest {
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoCounter todoCounter;
+
+    @Test
+    @DisplayName("처음 조회할 때만 COUNT 하고 이후 저장/삭제는 메모리에서 반영합니다.")
+    void approximateCount_tracks_changes() {
+        //given
+        given(todoRepository.count()).willReturn(10L);
+        todoCounter.approximateCount();
+
+        //when
+        todoCounter.add(1);
+        todoCounter.add(1);
+        todoCounter.add(-1);
+
+        //then
+        assertThat(todoCounter.approximateCount()).isEqualTo(11L);
+        verify(todoRepository, times(1)).count();
+    }
+
+    @Test
+    @DisplayName("주기적인 갱신은 메모리의 값을 COUNT 결과로 맞춥니다.")
+    void refresh_resets_drift() {
+        //given
+        given(todoRepository.count()).willReturn(10L, 3L);
+        todoCounter.approximateCount();
+        todoCounter.add(5);
+
+        //when
+        todoCounter.refresh();
+
+        //then
+        assertThat(todoCounter.approximateCount()).isEqualTo(3L);
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoDetailCache;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class TodoDetailCacheTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long TTL = 1_000L;
+
+    @Mock
+    private Clock clock;
+
+    private TodoDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(NOW);
+        cache = new TodoDetailCache(100, TTL, clock);
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 todo 는 캐시에서 반환하고 적중/미스를 집계합니다.")
+    void get_hit_after_miss() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        cache.get(1L, () -> load(1L, loads));
+        TodoResponse result = cache.get(1L, () -> load(1L, loads));
+
+        //then
+        assertThat(result.getId()).isEqualTo(1L);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("replica 를 쓸 때 무효화 직후 복제 지연 시간 안에 읽은 값은 캐시에 넣지 않습니다.")
+    void get_not_cached_within_stale_window() {
+        //given
+        TodoDetailCache replicaCache = new TodoDetailCache(100, TTL * 10, 500L, clock);
+        AtomicInteger loads = new AtomicInteger();
+        replicaCache.get(1L, () -> load(1L, loads));
+        replicaCache.invalidate(1L);
+
+        //when
+        replicaCache.get(1L, () -> load(1L, loads));
+        replicaCache.get(1L, () -> load(1L, loads));
+        given(clock.millis()).willReturn(NOW + 500L);
+        replicaCache.get(1L, () -> load(1L, loads));
+        replicaCache.get(1L, () -> load(1L, loads));
+
+        //then
+        assertThat(loads).hasValue(4);
+        assertThat(replicaCache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나면 다시 읽습니다.")
+    void get_expired() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> load(1L, loads));
+        given(clock.millis()).willReturn(NOW + TTL);
+
+        //when
+        cache.get(1L, () -> load(1L, loads));
+
+        //then
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("무효화한 todo 는 다시 읽고, 읽는 도중에 무효화되면 읽은 값을 캐시하지 않습니다.")
+    void invalidate() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> load(1L, loads));
+
+        //when
+        cache.invalidate(1L);
+        cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return load(1L, loads);
+        });
+        cache.get(1L, () -> load(1L, loads));
+
+        //then
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("읽는 도중에 다른 todo 가 무효화되어도 읽은 값은 캐시합니다.")
+    void invalidate_other_todo_during_load() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        cache.get(1L, () -> {
+            cache.invalidate(2L);
+            return load(1L, loads);
+        });
+        cache.get(1L, () -> load(1L, loads));
+
+        //then
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 읽고 무효화해도 최대 크기를 넘지 않습니다.")
+    void concurrent_access() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        for (int t = 0; t < 8; t++) {
+            int seed = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    long todoId = (seed * 31L + i) % 200;
+                    if (i % 50 == 0) {
+                        cache.invalidate(todoId);
+                    } else {
+                        cache.get(todoId, () -> load(todoId, new AtomicInteger()));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        //then
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.hitCount() + cache.missCount()).isEqualTo(8 * 4_900L);
+    }
+
+    @Test
+    @DisplayName("자주 읽는 todo 는 한 번씩만 읽히는 todo 들에 밀려나지 않습니다.")
+    void frequent_entries_survive_scan() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            cache.get(1L, () -> load(1L, loads));
+        }
+
+        //when
+        for (long id = 1_000; id < 1_500; id++) {
+            long todoId = id;
+            cache.get(todoId, () -> load(todoId, new AtomicInteger()));
+        }
+        cache.get(1L, () -> load(1L, loads));
+
+        //then
+        assertThat(loads).hasValue(1);
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.evictionCount()).isPositive();
+    }
+
+    private TodoResponse load(long id, AtomicInteger loads) {
+        loads.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoResponse(id, "title", "contents", "맑음", new UserResponse(1L, "test@test.com"), now, now);
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 단건 조회가 캐시에서 끝나면 트랜잭션도 열지 않아 DB 커넥션을 받지 않는지 Hibernate 통계로 확인합니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class TodoDetailConnectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("detail@test.com", "password", UserRole.USER));
+        todo = todoRepository.save(new Todo("title", "contents", "맑음", user));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 todo 를 조회할 때는 DB 커넥션을 받지 않습니다.")
+    void getTodo_cache_hit_without_connection() {
+        //given
+        todoService.getTodo(todo.getId());
+        statistics.clear();
+
+        //when
+        TodoResponse result = todoService.getTodo(todo.getId());
+
+        //then
+        assertThat(result.getTitle()).isEqualTo("title");
+        assertThat(statistics.getConnectCount()).isZero();
+        assertThat(statistics.getTransactionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 캐시된 todo 의 ETag 와 같으면 DB 커넥션 없이 304 로 응답합니다.")
+    void getTodo_not_modified_without_connection() throws Exception {
+        //given
+        String token = jwtUtil.createToken(user.getId(), user.getEmail(), UserRole.USER);
+        String eTag = mockMvc.perform(get("/todos/{todoId}", todo.getId()).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        statistics.clear();
+
+        //when & then
+        mockMvc.perform(get("/todos/{todoId}", todo.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        assertThat(statistics.getConnectCount()).isZero();
+        assertThat(statistics.getTransactionCount()).isZero();
+    }
+}
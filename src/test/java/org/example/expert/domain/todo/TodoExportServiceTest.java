@@ -0,0 +1,73 @@
+package org.example.expert.domain.todo;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.Session;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PersistenceConfig.class, TodoExportService.class})
+class TodoExportServiceTest {
+
+    @Autowired
+    private TodoExportService todoExportService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("todo 를 id 순서로 한 줄에 하나씩 JSON 으로 쓰고 영속성 컨텍스트에 엔티티를 남기지 않습니다.")
+    void export_ndjson() throws Exception {
+        //given
+        User user = new User("test@test.com", "password", UserRole.USER);
+        entityManager.persist(user);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Todo todo = new Todo("title" + i, "contents" + i, "맑음", user);
+            entityManager.persist(todo);
+            ids.add(todo.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        long count = todoExportService.export(out);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(25);
+        assertThat(lines).hasSize(25);
+        List<Long> exportedIds = new ArrayList<>();
+        for (String line : lines) {
+            JsonNode node = objectMapper.readTree(line);
+            exportedIds.add(node.get("id").asLong());
+            assertThat(node.get("user").get("email").asText()).isEqualTo("test@test.com");
+        }
+        assertThat(exportedIds).containsExactlyElementsOf(ids);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+}
@@ -0,0 +1,179 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.response.TodoImportError;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 저장 단계가 별도 스레드에서 자체 트랜잭션으로 커밋하므로 테스트 트랜잭션 없이 실행하고 끝나면 데이터를 지웁니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({PersistenceConfig.class, TodoImportService.class})
+class TodoImportServiceTest {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private TodoImportService todoImportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("test@test.com", "password", UserRole.USER));
+        // chunk 경계를 넘는 ref 참조를 확인하려고 작게 잡습니다.
+        ReflectionTestUtils.setField(todoImportService, "chunkSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        managerRepository.deleteAllInBatch();
+        todoRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("CSV 의 todo 와 댓글을 chunk 단위로 저장하고 잘못된 행은 행 번호와 함께 실패로 기록합니다.")
+    void importTodos_csv() {
+        //given
+        long userId = user.getId();
+        String csv = "type,ref,todoRef,userId,title,contents,weather\n" +
+                "todo,a," + "," + userId + ",title1,\"contents, with comma\",맑음\n" +
+                "todo,b," + "," + userId + ",title2,\"line1\nline2 \"\"quoted\"\"\",\n" +
+                "comment,,a," + userId + ",,comment1,\n" +
+                "todo,c," + "," + (userId + 100) + ",title3,contents3,\n" +
+                "note,,," + userId + ",,contents,\n" +
+                "comment,,b," + userId + ",,comment2,\n" +
+                "comment,,c," + userId + ",,comment3,\n";
+
+        //when
+        TodoImportResponse response = todoImportService.importTodos(TEXT_CSV, stream(csv));
+
+        //then
+        assertThat(response.getStatus()).isEqualTo(TodoImportStatus.COMPLETED);
+        assertThat(response.getParsedRows()).isEqualTo(7);
+        assertThat(response.getImportedTodos()).isEqualTo(2);
+        assertThat(response.getImportedComments()).isEqualTo(2);
+        assertThat(response.getFailedRows()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(TodoImportError::getRow).containsExactlyInAnyOrder(4L, 5L, 7L);
+
+        List<Todo> todos = todoRepository.findAll();
+        assertThat(todos).extracting(Todo::getContents)
+                .containsExactlyInAnyOrder("contents, with comma", "line1\nline2 \"quoted\"");
+        assertThat(commentRepository.findAll()).extracting(Comment::getContents)
+                .containsExactlyInAnyOrder("comment1", "comment2");
+        assertThat(managerRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("NDJSON 에서 JSON 이 깨진 행만 실패로 기록하고 이미 저장된 todo 에 댓글을 추가합니다.")
+    void importTodos_ndjson() {
+        //given
+        Todo todo = todoRepository.save(new Todo("title", "contents", "맑음", user));
+        String ndjson = "{\"type\":\"todo\",\"userId\":" + user.getId() + ",\"title\":\"t\",\"contents\":\"c\"}\n" +
+                "{\"type\":\"comment\",\n" +
+                "\n" +
+                "{\"type\":\"comment\",\"todoId\":" + todo.getId() + ",\"userId\":" + user.getId() + ",\"contents\":\"c\"}\n";
+
+        //when
+        TodoImportResponse response = todoImportService.importTodos(MediaType.APPLICATION_NDJSON, stream(ndjson));
+
+        //then
+        assertThat(response.getImportedTodos()).isEqualTo(1);
+        assertThat(response.getImportedComments()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(TodoImportError::getRow).containsExactly(2L);
+        assertThat(todoImportService.getImports()).extracting(TodoImportResponse::getImportId)
+                .contains(response.getImportId());
+    }
+
+    @Test
+    @DisplayName("본문을 읽다 실패하면 이미 넘긴 chunk 의 저장이 끝난 뒤에 실패로 기록합니다.")
+    void importTodos_read_failure_awaits_writer() {
+        //given
+        long userId = user.getId();
+        String csv = "type,ref,todoRef,userId,title,contents,weather\n" +
+                "todo,,," + userId + ",title1,contents1,\n" +
+                "todo,,," + userId + ",title2,contents2,\n" +
+                "todo,,," + userId + ",title3,contents3,\n";
+        InputStream failing = new SequenceInputStream(stream(csv), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        });
+
+        //when
+        ServerException exception = assertThrows(ServerException.class,
+                () -> todoImportService.importTodos(TEXT_CSV, failing));
+
+        //then
+        assertThat(exception.getMessage()).isEqualTo("파일을 읽는 중 오류가 발생했습니다.");
+        TodoImportResponse response = todoImportService.getImports().get(todoImportService.getImports().size() - 1);
+        assertThat(response.getStatus()).isEqualTo(TodoImportStatus.FAILED);
+        assertThat(response.getImportedTodos()).isEqualTo(2);
+        assertThat(todoRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("CSV 나 NDJSON 이 아니면 가져오지 않습니다.")
+    void importTodos_unsupported() {
+        //when & then
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> todoImportService.importTodos(MediaType.APPLICATION_JSON, stream("[]")));
+        assertThat(exception.getMessage()).isEqualTo("text/csv 또는 application/x-ndjson 형식만 가져올 수 있습니다.");
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
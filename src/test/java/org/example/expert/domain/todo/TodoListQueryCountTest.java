@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoCounter;
+import org.example.expert.domain.todo.service.TodoDetailCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 한 페이지를 조회할 때 실행되는 SQL 수를 Hibernate 통계로 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({PersistenceConfig.class, TodoService.class, TodoCounter.class, TodoSearchIndex.class, TodoDetailCache.class})
+class TodoListQueryCountTest {
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("test@test.com", "password", UserRole.USER);
+        User other = new User("other@test.com", "password", UserRole.USER);
+        entityManager.persist(user);
+        entityManager.persist(other);
+        for (int i = 0; i < 15; i++) {
+            Todo todo = new Todo("title" + i, "contents" + i, "맑음", user);
+            entityManager.persist(todo);
+            entityManager.persist(new Manager(other, todo));
+            for (int j = 0; j < i; j++) {
+                entityManager.persist(new Comment("comment" + j, user, todo));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("댓글/담당자 수를 포함해도 페이지 조회, 개수 조회, 집계 조회 세 번의 SQL 만 실행합니다.")
+    void page_with_counts_runs_three_statements() {
+        //when
+        Page<TodoResponse> todos = todoService.getTodos(1, 10, true, true);
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(todos.getContent()).hasSize(10).allSatisfy(todo -> {
+            assertThat(todo.getManagerCount()).isEqualTo(2);
+            assertThat(todo.getCommentCount()).isEqualTo(Long.parseLong(todo.getTitle().substring("title".length())));
+        });
+    }
+
+    @Test
+    @DisplayName("댓글/담당자 수를 요청하지 않으면 집계 쿼리를 실행하지 않습니다.")
+    void page_without_counts_runs_two_statements() {
+        //when
+        Page<TodoResponse> todos = todoService.getTodos(1, 10, true, false);
+
+        //then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(todos.getContent()).allSatisfy(todo -> assertThat(todo.getCommentCount()).isNull());
+    }
+}
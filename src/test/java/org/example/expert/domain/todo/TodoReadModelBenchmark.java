@@ -0,0 +1,127 @@
+package org.example.expert.domain.todo;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.todo.dto.TodoRow;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 한 페이지를 엔티티로 읽을 때와 projection 으로 읽을 때의 처리량(rows/sec) 과 페이지당 할당량을 비교합니다.
+ * 요청마다 새 영속성 컨텍스트를 쓰는 상황을 흉내내기 위해 페이지마다 clear 합니다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoReadModelBenchmark {
+
+    private static final int ROWS = 2_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("test@test.com", "password", UserRole.USER);
+        entityManager.persist(user);
+        String contents = "contents ".repeat(25);
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(new Todo("title" + i, contents, "맑음", user));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("엔티티 조회와 projection 조회의 페이지당 처리량과 할당량을 비교합니다.")
+    void readModelThroughput() {
+        //given
+        int pages = ROWS / PAGE_SIZE;
+
+        //when
+        Result entity = measure(page -> legacyPage(page % pages));
+        Result projection = measure(page -> todoRepository.findRows(PageRequest.of(page % pages, PAGE_SIZE))
+                .map(TodoRow::toResponse).getContent());
+        Result summary = measure(page -> todoRepository.findSummaryRows(PageRequest.of(page % pages, PAGE_SIZE))
+                .map(TodoRow::toResponse).getContent());
+
+        //then
+        System.out.printf("todo list page(%d rows): entity=%s, projection=%s, projection without contents=%s%n",
+                PAGE_SIZE, entity, projection, summary);
+        assertThat(projection.bytesPerPage()).isLessThan(entity.bytesPerPage());
+    }
+
+    // 변경 전: @EntityGraph 로 user 를 함께 읽은 Todo 엔티티를 응답으로 복사
+    private List<TodoResponse> legacyPage(int page) {
+        List<Todo> todos = entityManager.createQuery(
+                        "SELECT t FROM Todo t JOIN FETCH t.user ORDER BY t.modifiedAt DESC", Todo.class)
+                .setFirstResult(page * PAGE_SIZE)
+                .setMaxResults(PAGE_SIZE)
+                .getResultList();
+        entityManager.createQuery("SELECT count(t) FROM Todo t", Long.class).getSingleResult();
+        return todos.stream()
+                .map(todo -> new TodoResponse(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getContents(),
+                        todo.getWeather(),
+                        new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
+                        todo.getCreatedAt(),
+                        todo.getModifiedAt()
+                ))
+                .toList();
+    }
+
+    private Result measure(IntFunction<List<TodoResponse>> readPage) {
+        for (int i = 0; i < WARMUP; i++) {
+            readPage.apply(i);
+            entityManager.clear();
+        }
+
+        long rows = 0;
+        long beforeBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            rows += readPage.apply(i).size();
+            entityManager.clear();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long bytes = threadMXBean.getCurrentThreadAllocatedBytes() - beforeBytes;
+        return new Result(rows * 1_000_000_000L / elapsedNanos, bytes / ITERATIONS);
+    }
+
+    private record Result(long rowsPerSecond, long bytesPerPage) {
+
+        @Override
+        public String toString() {
+            return rowsPerSecond + " rows/s, " + bytesPerPage / 1024 + " KB/page";
+        }
+    }
+}
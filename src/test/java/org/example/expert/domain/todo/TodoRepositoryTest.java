@@ -0,0 +1,149 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoRow;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PersistenceConfig.class)
+class TodoRepositoryTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ManagerRepository managerRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<Todo> saved = new ArrayList<>();
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(new User("test@test.com", "password", UserRole.USER));
+        for (int i = 0; i < 25; i++) {
+            saved.add(entityManager.persist(new Todo("title" + i, "contents" + i, "맑음", user)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 (modifiedAt, id) 내림차순으로 빠짐없이 한 번씩 조회됩니다.")
+    void cursor_pages_cover_all_rows_in_order() {
+        //given
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Todo::getModifiedAt).thenComparing(Todo::getId).reversed())
+                .map(Todo::getId)
+                .toList();
+
+        //when
+        List<Long> visited = new ArrayList<>();
+        Slice<TodoRow> page = todoRepository.findFirstPage(PageRequest.of(0, 10));
+        page.forEach(todo -> visited.add(todo.id()));
+        while (page.hasNext()) {
+            TodoRow last = page.getContent().get(page.getNumberOfElements() - 1);
+            page = todoRepository.findPageAfter(last.modifiedAt(), last.id(), PageRequest.of(0, 10));
+            page.forEach(todo -> visited.add(todo.id()));
+        }
+
+        //then
+        assertThat(visited).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("projection 조회는 필요한 컬럼만 읽고 영속성 컨텍스트에 엔티티를 등록하지 않습니다.")
+    void projection_does_not_manage_entities() {
+        //when
+        Slice<TodoRow> rows = todoRepository.findRows(PageRequest.of(0, 10));
+        Slice<TodoRow> summaryRows = todoRepository.findSummaryRows(PageRequest.of(0, 10));
+        TodoRow row = todoRepository.findRowById(saved.get(0).getId()).orElseThrow();
+
+        //then
+        assertThat(rows.hasNext()).isTrue();
+        assertThat(rows.getContent()).allSatisfy(todo -> assertThat(todo.contents()).isNotNull());
+        assertThat(summaryRows.getContent()).allSatisfy(todo -> assertThat(todo.contents()).isNull());
+        assertThat(row.userEmail()).isEqualTo("test@test.com");
+        Session session = entityManager.getEntityManager().unwrap(Session.class);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("saveAll 은 요청 순서대로 id 를 할당하고 todo 마다 작성자를 담당자로 저장합니다.")
+    void save_all_assigns_ids_in_order() {
+        //given
+        User owner = entityManager.find(User.class, user.getId());
+        List<Todo> todos = List.of(
+                new Todo("bulk1", "contents1", "흐림", owner),
+                new Todo("bulk2", "contents2", "흐림", owner),
+                new Todo("bulk3", "contents3", "흐림", owner));
+
+        //when
+        List<Long> ids = todoRepository.saveAll(todos).stream().map(Todo::getId).toList();
+        entityManager.flush();
+        entityManager.clear();
+
+        //then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids).extracting(id -> todoRepository.findRowById(id).orElseThrow().title())
+                .containsExactly("bulk1", "bulk2", "bulk3");
+        assertThat(ids).allSatisfy(id -> assertThat(managerRepository.findByTodoIdWithUser(id))
+                .extracting(manager -> manager.getUser().getId())
+                .containsExactly(user.getId()));
+    }
+
+    @Test
+    @DisplayName("댓글과 담당자를 bulk delete 로 지우면 todo 한 행만 남아 지울 수 있습니다.")
+    void bulk_delete_children_then_todo() {
+        //given
+        Long todoId = saved.get(0).getId();
+        User owner = entityManager.find(User.class, user.getId());
+        Todo todo = entityManager.find(Todo.class, todoId);
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(new Comment("comment" + i, owner, todo));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when
+        List<Long> commentIds = commentRepository.findIdsByTodoId(todoId, PageRequest.of(0, 3));
+        int firstChunk = commentRepository.deleteByIds(commentIds);
+        int secondChunk = commentRepository.deleteByIds(commentRepository.findIdsByTodoId(todoId, PageRequest.of(0, 3)));
+        managerRepository.deleteByIds(managerRepository.findIdsByTodoId(todoId, PageRequest.of(0, 3)));
+        int deleted = todoRepository.deleteTodoById(todoId);
+
+        //then
+        assertThat(firstChunk).isEqualTo(3);
+        assertThat(secondChunk).isEqualTo(2);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(todoRepository.findById(todoId)).isEmpty();
+        assertThat(todoRepository.count()).isEqualTo(24);
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임의의 단어로 만든 todo 를 색인하고 검색 지연시간의 p50/p99 를 측정합니다.
+ */
+@Tag("benchmark")
+class TodoSearchIndexBenchmark {
+
+    private static final int DOCUMENTS = 1_000_000;
+    private static final int VOCABULARY = 50_000;
+    private static final int WORDS_PER_DOCUMENT = 12;
+    private static final int QUERIES = 2_000;
+
+    @Test
+    @DisplayName("백만 건 색인에서 검색 지연시간을 측정합니다.")
+    void search_latency() {
+        TodoSearchIndex index = new TodoSearchIndex(Mockito.mock(TodoRepository.class));
+        Random random = new Random(42);
+
+        long startedAt = System.nanoTime();
+        for (long id = 1; id <= DOCUMENTS; id++) {
+            index.index(id, word(random) + " " + word(random), sentence(random));
+        }
+        long indexMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        long[] latencies = new long[QUERIES];
+        int hits = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            String query = i % 2 == 0 ? word(random) : word(random) + " " + word(random);
+            long queryStartedAt = System.nanoTime();
+            List<TodoSearchResponse> results = index.search(query, 10);
+            latencies[i] = System.nanoTime() - queryStartedAt;
+            hits += results.size();
+        }
+        Arrays.sort(latencies);
+
+        System.out.printf("index %d docs: %d ms%n", DOCUMENTS, indexMillis);
+        System.out.printf("search p50: %.2f ms, p99: %.2f ms, max: %.2f ms (hits %d)%n",
+                latencies[QUERIES / 2] / 1e6, latencies[QUERIES * 99 / 100] / 1e6, latencies[QUERIES - 1] / 1e6, hits);
+        assertThat(index.size()).isEqualTo(DOCUMENTS);
+    }
+
+    // 자주 나오는 단어와 드문 단어가 섞이도록 치우친 분포에서 고릅니다.
+    private String word(Random random) {
+        double skewed = Math.pow(random.nextDouble(), 3);
+        return "w" + (int) (skewed * VOCABULARY);
+    }
+
+    private String sentence(Random random) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < WORDS_PER_DOCUMENT; i++) {
+            sentence.append(word(random)).append(' ');
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.expert.domain.todo;
+
+import org.example.expert.domain.todo.dto.TodoDocument;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
+import org.example.expert.domain.todo.service.TodoTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TodoSearchIndexTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private TodoSearchIndex todoSearchIndex;
+
+    @Test
+    @DisplayName("한글 단어는 두 글자씩 나눠 조사가 붙어도 검색됩니다.")
+    void tokenize_hangul_bigrams() {
+        //when
+        List<String> tokens = TodoTokenizer.tokenize("Spring 회의록을 정리");
+
+        //then
+        assertThat(tokens).containsExactly("spring", "회의", "의록", "록을", "정리");
+    }
+
+    @Test
+    @DisplayName("시작할 때 repository 를 나눠 읽어 색인을 만듭니다.")
+    void build_reads_in_batches() {
+        //given
+        ReflectionTestUtils.setField(todoSearchIndex, "buildBatchSize", 1);
+        given(todoRepository.findDocumentsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(new TodoDocument(1L, "장보기", "우유", MODIFIED_AT)), PageRequest.of(0, 1), true));
+        given(todoRepository.findDocumentsAfter(eq(1L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(new TodoDocument(2L, "운동", "달리기", MODIFIED_AT)), PageRequest.of(0, 1), false));
+
+        //when
+        todoSearchIndex.build();
+
+        //then
+        assertThat(todoSearchIndex.size()).isEqualTo(2);
+        assertThat(todoSearchIndex.search("우유", 10)).extracting(TodoSearchResponse::getId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("색인을 만드는 동안 삭제가 커밋된 todo 는 먼저 읽어 둔 내용으로 되살리지 않습니다.")
+    void build_skips_removed_while_building() {
+        //given
+        given(todoRepository.findDocumentsAfter(eq(0L), any(Pageable.class))).willAnswer(invocation -> {
+            todoSearchIndex.remove(1L);
+            return new SliceImpl<>(List.of(new TodoDocument(1L, "장보기", "우유", MODIFIED_AT),
+                    new TodoDocument(2L, "운동", "달리기", MODIFIED_AT)));
+        });
+
+        //when
+        todoSearchIndex.build();
+
+        //then
+        assertThat(todoSearchIndex.size()).isEqualTo(1);
+        assertThat(todoSearchIndex.search("우유", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재동기화는 다른 서버에서 바뀐 todo 를 다시 색인하고 삭제된 todo 를 지웁니다.")
+    void resync_applies_remote_changes() {
+        //given
+        given(todoRepository.findDocumentsAfter(eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(new TodoDocument(1L, "장보기", "우유", MODIFIED_AT),
+                        new TodoDocument(2L, "운동", "달리기", MODIFIED_AT))));
+        todoSearchIndex.build();
+        given(todoRepository.findDocumentsModifiedAfter(eq(MODIFIED_AT.minusSeconds(10)), eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(new TodoDocument(1L, "장보기", "두유", MODIFIED_AT.plusSeconds(1)),
+                        new TodoDocument(3L, "독서", "소설", MODIFIED_AT.plusSeconds(2)))));
+        given(todoRepository.count()).willReturn(2L);
+        given(todoRepository.findIdsAfter(eq(0L), any(Pageable.class))).willReturn(new SliceImpl<>(List.of(1L, 3L)));
+
+        //when
+        todoSearchIndex.resync();
+
+        //then
+        assertThat(todoSearchIndex.size()).isEqualTo(2);
+        assertThat(todoSearchIndex.search("우유", 10)).isEmpty();
+        assertThat(todoSearchIndex.search("두유", 10)).extracting(TodoSearchResponse::getId).containsExactly(1L);
+        assertThat(todoSearchIndex.search("소설", 10)).extracting(TodoSearchResponse::getId).containsExactly(3L);
+        assertThat(todoSearchIndex.search("달리기", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함한 todo 만 반환하고, 제목에 나온 todo 를 먼저 반환합니다.")
+    void search_ranks_matches() {
+        //given
+        todoSearchIndex.index(1L, "report draft", "write the quarterly report");
+        todoSearchIndex.index(2L, "groceries", "milk and a report on prices");
+        todoSearchIndex.index(3L, "report", "nothing else");
+
+        //when
+        List<TodoSearchResponse> results = todoSearchIndex.search("Report", 10);
+        List<TodoSearchResponse> both = todoSearchIndex.search("report milk", 10);
+
+        //then
+        assertThat(results).extracting(TodoSearchResponse::getId).containsExactly(3L, 1L, 2L);
+        assertThat(both).extracting(TodoSearchResponse::getId).containsExactly(2L);
+        assertThat(todoSearchIndex.search("report", 1)).extracting(TodoSearchResponse::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("수정하거나 삭제한 todo 는 이전 내용으로 검색되지 않습니다.")
+    void index_replaces_and_removes() {
+        //given
+        todoSearchIndex.index(1L, "old title", "contents");
+
+        //when
+        todoSearchIndex.index(1L, "new title", "contents");
+        List<TodoSearchResponse> oldResults = todoSearchIndex.search("old", 10);
+        List<TodoSearchResponse> newResults = todoSearchIndex.search("new", 10);
+        todoSearchIndex.remove(1L);
+
+        //then
+        assertThat(oldResults).isEmpty();
+        assertThat(newResults).extracting(TodoSearchResponse::getTitle).containsExactly("new title");
+        assertThat(todoSearchIndex.search("new", 10)).isEmpty();
+        assertThat(todoSearchIndex.size()).isZero();
+    }
+}
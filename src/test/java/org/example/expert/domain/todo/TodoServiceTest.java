@@ -1,12 +1,26 @@
 package org.example.expert.domain.todo;
 
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.comment.repository.CommentRepository;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.common.exception.ServerException;
+import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.dto.TodoCursor;
+import org.example.expert.domain.todo.dto.TodoRow;
+import org.example.expert.domain.todo.dto.request.TodoBatchSaveRequest;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoCursorResponse;
+import org.example.expert.domain.todo.dto.response.TodoPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TodoCountMode;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoCounter;
+import org.example.expert.domain.todo.service.TodoDetailCache;
+import org.example.expert.domain.todo.service.TodoSearchIndex;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.enums.UserRole;
@@ -16,22 +30,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 
 @ExtendWith(SpringExtension.class)
@@ -40,9 +72,24 @@ public class TodoServiceTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ManagerRepository managerRepository;
+
     @Mock
     private WeatherClient weatherClient;
 
+    @Mock
+    private TodoCounter todoCounter;
+
+    @Mock
+    private TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    private TodoDetailCache todoDetailCache;
+
     @InjectMocks
     private TodoService todoService;
 
@@ -73,6 +120,63 @@ public class TodoServiceTest {
         assertThat(todoSaveResponse.getUser().getEmail()).isEqualTo(user.getEmail());
     }
 
+    @Test
+    @DisplayName("날씨 조회에 실패하면 todo 를 저장하지 않습니다.")
+    void saveTodo_weather_failure() {
+        //given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        given(weatherClient.getTodayWeather()).willThrow(new ServerException("날씨 데이터가 없습니다."));
+
+        //when & then
+        assertThatThrownBy(() -> todoService.saveTodo(authUser, new TodoSaveRequest()))
+                .isInstanceOf(ServerException.class);
+        verify(todoRepository, never()).save(any(Todo.class));
+    }
+
+    @Test
+    @DisplayName("saveTodo 는 날씨를 조회하는 동안 트랜잭션을 열지 않습니다.")
+    void saveTodo_weather_outside_transaction() {
+        //given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        AtomicBoolean transactionActive = new AtomicBoolean(true);
+        given(weatherClient.getTodayWeather()).willAnswer(invocation -> {
+            transactionActive.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return "맑음";
+        });
+        given(todoRepository.save(any(Todo.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        //when
+        transactionalProxy(todoService).saveTodo(authUser, new TodoSaveRequest("title", "contents"));
+
+        //then
+        assertThat(transactionActive).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 todo 를 저장할 때 날씨는 한 번만 조회하고 한 번의 saveAll 로 저장합니다.")
+    void saveTodos_success() {
+        //given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        List<TodoSaveRequest> todos = List.of(new TodoSaveRequest("title1", "contents1"), new TodoSaveRequest("title2", "contents2"));
+        given(weatherClient.getTodayWeather()).willReturn("맑음");
+        given(todoRepository.saveAll(anyList())).willAnswer(invocation -> {
+            List<Todo> saved = invocation.getArgument(0);
+            for (int i = 0; i < saved.size(); i++) {
+                ReflectionTestUtils.setField(saved.get(i), "id", 10L + i);
+            }
+            return saved;
+        });
+
+        //when
+        TodoBatchSaveResponse response = todoService.saveTodos(authUser, new TodoBatchSaveRequest(todos));
+
+        //then
+        assertThat(response.getIds()).containsExactly(10L, 11L);
+        assertThat(response.getWeather()).isEqualTo("맑음");
+        verify(weatherClient, times(1)).getTodayWeather();
+        verify(todoRepository, times(1)).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("페이지네이션한 Todo들을 조회하고 반환합니다.")
     void getTodos_success() {
@@ -81,21 +185,14 @@ public class TodoServiceTest {
         int size = 10;
         LocalDateTime now = LocalDateTime.now();
 
-        User user = new User();
-        ReflectionTestUtils.setField(user, "id", 1L);
-        ReflectionTestUtils.setField(user, "email", "test@test.com");
-
-        Todo todo = new Todo("testTitle", "testContents", "맑음", user);
-        ReflectionTestUtils.setField(todo, "id", 1L);
-        ReflectionTestUtils.setField(todo, "createdAt", now);
-        ReflectionTestUtils.setField(todo, "modifiedAt", now);
+        TodoRow todo = new TodoRow(1L, "testTitle", "testContents", "맑음", 1L, "test@test.com", now, now);
 
-        List<Todo> todoList = new ArrayList<>(List.of(todo, todo, todo));
-        Page<Todo> todos = new PageImpl<Todo>(todoList, PageRequest.of(page, size), size);
-        given(todoRepository.findAllByOrderByModifiedAtDesc(any(Pageable.class))).willReturn(todos);
+        List<TodoRow> todoList = new ArrayList<>(List.of(todo, todo, todo));
+        Page<TodoRow> todos = new PageImpl<TodoRow>(todoList, PageRequest.of(page, size), size);
+        given(todoRepository.findRows(any(Pageable.class))).willReturn(todos);
 
         //when
-        Page<TodoResponse> resultTodos = todoService.getTodos(page, size);
+        Page<TodoResponse> resultTodos = todoService.getTodos(page, size, true, false);
 
         //then
         resultTodos.getContent().forEach(todoResponse -> {
@@ -110,6 +207,79 @@ public class TodoServiceTest {
         });
     }
 
+    @Test
+    @DisplayName("contents 를 제외하고 목록을 조회하면 contents 컬럼을 읽지 않는 쿼리를 사용합니다.")
+    void getTodos_without_contents() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        TodoRow todo = new TodoRow(1L, "testTitle", "맑음", 1L, "test@test.com", now, now);
+        given(todoRepository.findSummaryRows(any(Pageable.class)))
+                .willReturn(new PageImpl<>(List.of(todo), PageRequest.of(0, 10), 1));
+
+        //when
+        Page<TodoResponse> resultTodos = todoService.getTodos(1, 10, false, false);
+
+        //then
+        assertThat(resultTodos.getContent()).hasSize(1);
+        assertThat(resultTodos.getContent().get(0).getTitle()).isEqualTo("testTitle");
+        assertThat(resultTodos.getContent().get(0).getContents()).isNull();
+        verify(todoRepository, never()).findRows(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("count=approximate 로 조회하면 COUNT 쿼리 없이 근사 개수를 반환합니다.")
+    void getTodoPage_approximate() {
+        //given
+        TodoRow todo = cursorTodo(1L, LocalDateTime.now());
+        given(todoRepository.findRows(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, 1), true));
+        given(todoCounter.approximateCount()).willReturn(42L);
+
+        //when
+        TodoPageResponse response = todoService.getTodoPage(1, 1, true, false, TodoCountMode.APPROXIMATE);
+
+        //then
+        assertThat(response.getContent()).extracting(TodoResponse::getId).containsExactly(1L);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getTotalElements()).isEqualTo(42L);
+        assertThat(response.isTotalExact()).isFalse();
+        verify(todoRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("count=none 으로 조회하면 개수 없이 다음 페이지 유무만 반환합니다.")
+    void getTodoPage_none() {
+        //given
+        TodoRow todo = cursorTodo(1L, LocalDateTime.now());
+        given(todoRepository.findRows(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, 10), false));
+
+        //when
+        TodoPageResponse response = todoService.getTodoPage(1, 10, true, false, TodoCountMode.NONE);
+
+        //then
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+        verify(todoRepository, never()).count();
+        verify(todoCounter, never()).approximateCount();
+    }
+
+    @Test
+    @DisplayName("count=exact 로 조회하면 COUNT 쿼리로 정확한 개수를 반환합니다.")
+    void getTodoPage_exact() {
+        //given
+        given(todoRepository.findRows(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+        given(todoRepository.count()).willReturn(7L);
+
+        //when
+        TodoPageResponse response = todoService.getTodoPage(1, 10, true, false, TodoCountMode.EXACT);
+
+        //then
+        assertThat(response.getTotalElements()).isEqualTo(7L);
+        assertThat(response.isTotalExact()).isTrue();
+    }
+
     @Test
     @DisplayName("todo를 단건 조회해서 반환합니다.")
     void getTodo_success() {
@@ -117,16 +287,10 @@ public class TodoServiceTest {
         long todoId = 1L;
         LocalDateTime now = LocalDateTime.now();
 
-        User user = new User();
-        ReflectionTestUtils.setField(user, "id", 1L);
-        ReflectionTestUtils.setField(user, "email", "test@test.com");
+        TodoRow todo = new TodoRow(todoId, "testTitle", "testContents", "맑음", 1L, "test@test.com", now, now);
 
-        Todo todo = new Todo("testTitle", "testContents", "맑음", user);
-        ReflectionTestUtils.setField(todo, "id", todoId);
-        ReflectionTestUtils.setField(todo, "createdAt", now);
-        ReflectionTestUtils.setField(todo, "modifiedAt", now);
-
-        given(todoRepository.findTodoById(anyLong())).willReturn(Optional.of(todo));
+        given(todoRepository.findRowById(anyLong())).willReturn(Optional.of(todo));
+        given(todoDetailCache.get(anyLong(), any())).willAnswer(invocation -> invocation.<Supplier<TodoResponse>>getArgument(1).get());
 
         //when
         TodoResponse todoResponse = todoService.getTodo(todoId);
@@ -141,4 +305,154 @@ public class TodoServiceTest {
         assertThat(todoResponse.getCreatedAt()).isEqualTo(now);
         assertThat(todoResponse.getModifiedAt()).isEqualTo(now);
     }
+
+    @Test
+    @DisplayName("커서 없이 조회하면 첫 페이지와 다음 페이지를 가리키는 커서를 반환합니다.")
+    void getTodosByCursor_first_page() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        TodoRow todo = cursorTodo(2L, now);
+        given(todoRepository.findFirstPage(any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, 1), true));
+
+        //when
+        TodoCursorResponse response = todoService.getTodosByCursor(null, 1);
+
+        //then
+        assertThat(response.getTodos()).extracting(TodoResponse::getId).containsExactly(2L);
+        assertThat(TodoCursor.decode(response.getNextCursor())).isEqualTo(new TodoCursor(now, 2L));
+    }
+
+    @Test
+    @DisplayName("커서로 조회하면 커서 이후의 todo 를 조회하고, 마지막 페이지에서는 커서를 반환하지 않습니다.")
+    void getTodosByCursor_next_page() {
+        //given
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = new TodoCursor(now, 2L).encode();
+        TodoRow todo = cursorTodo(1L, now);
+        given(todoRepository.findPageAfter(now, 2L, PageRequest.of(0, 10)))
+                .willReturn(new SliceImpl<>(List.of(todo), PageRequest.of(0, 10), false));
+
+        //when
+        TodoCursorResponse response = todoService.getTodosByCursor(cursor, 10);
+
+        //then
+        assertThat(response.getTodos()).extracting(TodoResponse::getId).containsExactly(1L);
+        assertThat(response.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 예외가 발생합니다.")
+    void getTodosByCursor_invalid_cursor() {
+        //when & then
+        assertThatThrownBy(() -> todoService.getTodosByCursor("not-a-cursor", 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("잘못된 커서입니다.");
+    }
+
+    @Test
+    @DisplayName("검색어 없이 검색하면 예외가 발생합니다.")
+    void searchTodos_blank_query() {
+        //when & then
+        assertThatThrownBy(() -> todoService.searchTodos(" ", 10))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("검색어를 입력해주세요.");
+        verify(todoSearchIndex, never()).search(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("작성자가 아닌 유저는 todo 를 삭제할 수 없습니다.")
+    void deleteTodo_not_owner() {
+        //given
+        AuthUser authUser = new AuthUser(2L, "other@test.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(1L)).willReturn(Optional.of(1L));
+
+        //when & then
+        assertThatThrownBy(() -> todoService.deleteTodo(authUser, 1L))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("해당 일정을 만든 유저가 유효하지 않습니다.");
+        verify(todoRepository, never()).deleteTodoById(anyLong());
+    }
+
+    @Test
+    @DisplayName("댓글과 담당자를 chunk 단위로 지운 뒤 todo 를 지우고 캐시와 색인을 갱신합니다.")
+    void deleteTodo_in_chunks() {
+        //given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        ReflectionTestUtils.setField(todoService, "deleteChunkSize", 2);
+        given(todoRepository.findOwnerIdById(1L)).willReturn(Optional.of(1L));
+        given(commentRepository.findIdsByTodoId(1L, PageRequest.of(0, 2)))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L))
+                .willReturn(List.of());
+        given(managerRepository.findIdsByTodoId(1L, PageRequest.of(0, 2)))
+                .willReturn(List.of(5L))
+                .willReturn(List.of());
+        given(commentRepository.deleteByIds(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        given(managerRepository.deleteByIds(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        given(todoRepository.deleteTodoById(1L)).willReturn(1);
+
+        //when
+        todoService.deleteTodo(authUser, 1L);
+
+        //then
+        verify(commentRepository).deleteByIds(List.of(1L, 2L));
+        verify(commentRepository).deleteByIds(List.of(3L));
+        verify(managerRepository).deleteByIds(List.of(5L));
+        verify(todoRepository).deleteTodoById(1L);
+        verify(todoCounter).add(-1);
+        verify(todoSearchIndex).remove(1L);
+        verify(todoDetailCache).invalidate(1L);
+    }
+
+    @Test
+    @DisplayName("읽은 id 가 하나도 지워지지 않으면 같은 chunk 를 반복하지 않고 todo 삭제로 넘어갑니다.")
+    void deleteTodo_stops_when_chunk_deletes_nothing() {
+        //given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(1L)).willReturn(Optional.of(1L));
+        given(commentRepository.findIdsByTodoId(eq(1L), any(Pageable.class))).willReturn(List.of(1L, 2L));
+        given(commentRepository.deleteByIds(List.of(1L, 2L))).willReturn(0);
+        given(managerRepository.findIdsByTodoId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(todoRepository.deleteTodoById(1L)).willReturn(1);
+
+        //when
+        todoService.deleteTodo(authUser, 1L);
+
+        //then
+        verify(commentRepository, times(1)).deleteByIds(List.of(1L, 2L));
+        verify(todoRepository).deleteTodoById(1L);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 todo 를 지워 삭제된 행이 없으면 todo 개수를 줄이지 않습니다.")
+    void deleteTodo_already_deleted() {
+        //given
+        AuthUser authUser = new AuthUser(1L, "test@test.com", UserRole.USER);
+        given(todoRepository.findOwnerIdById(1L)).willReturn(Optional.of(1L));
+        given(commentRepository.findIdsByTodoId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(managerRepository.findIdsByTodoId(eq(1L), any(Pageable.class))).willReturn(List.of());
+        given(todoRepository.deleteTodoById(1L)).willReturn(0);
+
+        //when
+        todoService.deleteTodo(authUser, 1L);
+
+        //then
+        verify(todoCounter, never()).add(anyLong());
+        verify(todoDetailCache).invalidate(1L);
+    }
+
+    // 애플리케이션과 같은 방식으로 @Transactional 을 적용한 프록시를 만듭니다.
+    private TodoService transactionalProxy(TodoService target) {
+        PlatformTransactionManager transactionManager =
+                new DataSourceTransactionManager(new DriverManagerDataSource("jdbc:h2:mem:todo-service-test"));
+        ProxyFactory proxyFactory = new ProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager, new AnnotationTransactionAttributeSource()));
+        return (TodoService) proxyFactory.getProxy();
+    }
+
+    private TodoRow cursorTodo(Long id, LocalDateTime modifiedAt) {
+        return new TodoRow(id, "testTitle", "testContents", "맑음", 1L, "test@test.com", modifiedAt, modifiedAt);
+    }
 }
@@ -0,0 +1,112 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.common.dto.ResourceVersion;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TodoControllerTest {
+
+    private static final LocalDateTime MODIFIED_AT = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TodoService todoService;
+
+    @Test
+    @DisplayName("todo 단건 조회 응답에 modifiedAt 으로 만든 ETag 와 Last-Modified 를 붙입니다.")
+    void getTodo_with_etag() throws Exception {
+        //given
+        ResourceVersion version = ResourceVersion.of("todo-1", MODIFIED_AT);
+        given(todoService.getTodo(1L)).willReturn(
+                new TodoResponse(1L, "title", "contents", "맑음", new UserResponse(1L, "test@test.com"), MODIFIED_AT, MODIFIED_AT));
+
+        //when & then
+        mockMvc.perform(get("/todos/1").header("Authorization", token()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.eTag()))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(jsonPath("$.title").value("title"));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 캐시된 todo 의 ETag 와 같으면 본문 없이 304 로 응답합니다.")
+    void getTodo_not_modified() throws Exception {
+        //given
+        ResourceVersion version = ResourceVersion.of("todo-1", MODIFIED_AT);
+        given(todoService.getTodo(1L)).willReturn(
+                new TodoResponse(1L, "title", "contents", "맑음", new UserResponse(1L, "test@test.com"), MODIFIED_AT, MODIFIED_AT));
+
+        //when & then
+        mockMvc.perform(get("/todos/1")
+                        .header("Authorization", token())
+                        .header(HttpHeaders.IF_NONE_MATCH, version.eTag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("todo 가 바뀌어 ETag 가 다르면 새 본문을 반환합니다.")
+    void getTodo_modified() throws Exception {
+        //given
+        ResourceVersion stale = ResourceVersion.of("todo-1", MODIFIED_AT);
+        ResourceVersion current = ResourceVersion.of("todo-1", MODIFIED_AT.plusSeconds(1));
+        given(todoService.getTodo(1L)).willReturn(
+                new TodoResponse(1L, "new title", "contents", "맑음", new UserResponse(1L, "test@test.com"), MODIFIED_AT, MODIFIED_AT.plusSeconds(1)));
+
+        //when & then
+        mockMvc.perform(get("/todos/1")
+                        .header("Authorization", token())
+                        .header(HttpHeaders.IF_NONE_MATCH, stale.eTag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, current.eTag()));
+    }
+
+    @Test
+    @DisplayName("내보내기는 비동기로 NDJSON 을 스트리밍합니다.")
+    void exportTodos_streams_ndjson() throws Exception {
+        //when
+        MvcResult result = mockMvc.perform(get("/todos/export").header("Authorization", token()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON));
+    }
+
+    private String token() {
+        return jwtUtil.createToken(1L, "test@test.com", UserRole.USER);
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.expert.domain.todo.controller;
+
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.enums.TodoImportStatus;
+import org.example.expert.domain.todo.service.TodoImportService;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TodoImportControllerTest {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockBean
+    private TodoImportService todoImportService;
+
+    @Test
+    @DisplayName("관리자가 올린 CSV 본문을 가져오고 결과를 반환합니다.")
+    void importTodos() throws Exception {
+        //given
+        given(todoImportService.importTodos(any(), any())).willReturn(new TodoImportResponse(
+                "import-1", TodoImportStatus.COMPLETED, LocalDateTime.now(), LocalDateTime.now(),
+                1, 1, 0, 0, List.of(), null));
+
+        //when & then
+        mockMvc.perform(post("/admin/imports")
+                        .header("Authorization", jwtUtil.createToken(1L, "admin@test.com", UserRole.ADMIN))
+                        .contentType(TEXT_CSV)
+                        .content("type,userId,title,contents\ntodo,1,title,contents\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importId").value("import-1"))
+                .andExpect(jsonPath("$.importedTodos").value(1));
+    }
+
+    @Test
+    @DisplayName("관리자가 아니면 가져오기를 실행하지 않습니다.")
+    void importTodos_forbidden() throws Exception {
+        //when & then
+        mockMvc.perform(post("/admin/imports")
+                        .header("Authorization", jwtUtil.createToken(1L, "test@test.com", UserRole.USER))
+                        .contentType(TEXT_CSV)
+                        .content("type\n"))
+                .andExpect(status().isForbidden());
+        verifyNoInteractions(todoImportService);
+    }
+}
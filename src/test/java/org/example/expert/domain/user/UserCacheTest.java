@@ -0,0 +1,161 @@
+package org.example.expert.domain.user;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.example.expert.config.BoundedCacheRegionFactory;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청마다 새 영속성 컨텍스트에서 읽는 상황을 보려고 테스트 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "jpa.cache.max-entries=2"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(PersistenceConfig.class)
+class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BoundedCacheRegionFactory cacheRegionFactory;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("test@test.com", "password", UserRole.USER));
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 유저는 다음 조회에서 쿼리 없이 2차 캐시에서 읽습니다.")
+    void findById_cached() {
+        //given
+        userRepository.findById(user.getId());
+        long queries = statistics.getPrepareStatementCount();
+
+        //when
+        User result = userRepository.findById(user.getId()).orElseThrow();
+
+        //then
+        assertThat(result.getEmail()).isEqualTo("test@test.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(queries);
+        assertThat(cacheRegionFactory.hitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("비밀번호와 권한을 바꾸면 다음 조회에서 바뀐 값을 읽습니다.")
+    void update_refreshes_cache() {
+        //given
+        userRepository.findById(user.getId());
+
+        //when
+        transactionTemplate.executeWithoutResult(status -> {
+            User found = userRepository.findById(user.getId()).orElseThrow();
+            found.changePassword("newPassword");
+            found.updateRole(UserRole.ADMIN);
+        });
+
+        //then
+        User result = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(result.getPassword()).isEqualTo("newPassword");
+        assertThat(result.getUserRole()).isEqualTo(UserRole.ADMIN);
+    }
+
+    @Test
+    @DisplayName("인증용 조회는 다른 서버가 바꾼 비밀번호와 권한을 캐시를 거치지 않고 바로 읽습니다.")
+    void findCredentials_bypass_cache() {
+        //given
+        userRepository.findById(user.getId());
+        // 이 서버의 캐시를 거치지 않고 DB 를 직접 바꿔 다른 서버의 변경을 흉내 냅니다.
+        new JdbcTemplate(dataSource).update("UPDATE users SET password = ?, user_role = ? WHERE id = ?",
+                "changed", UserRole.ADMIN.name(), user.getId());
+
+        //when
+        User byId = userRepository.findCredentialsById(user.getId()).orElseThrow();
+        User byEmail = userRepository.findCredentialsByEmail("test@test.com").orElseThrow();
+
+        //then
+        assertThat(byId.getPassword()).isEqualTo("changed");
+        assertThat(byId.getUserRole()).isEqualTo(UserRole.ADMIN);
+        assertThat(byEmail.getPassword()).isEqualTo("changed");
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo("password");
+    }
+
+    @Test
+    @DisplayName("기존 해시가 같을 때만 비밀번호를 바꾸고, 다른 유저의 캐시 항목은 그대로 둡니다.")
+    void updatePasswordIfUnchanged_keeps_other_entries() {
+        //given
+        User other = userRepository.save(new User("other@test.com", "password", UserRole.USER));
+        userRepository.findById(user.getId());
+        userRepository.findById(other.getId());
+
+        //when
+        int stale = userRepository.updatePasswordIfUnchanged(user.getId(), "stale", "rehashed");
+        int updated = userRepository.updatePasswordIfUnchanged(user.getId(), "password", "rehashed");
+
+        //then
+        assertThat(stale).isZero();
+        assertThat(updated).isOne();
+        assertThat(entityManagerFactory.getCache().contains(User.class, other.getId())).isTrue();
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getPassword()).isEqualTo("rehashed");
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 가장 오래 쓰지 않은 유저부터 캐시에서 버립니다.")
+    void bounded() {
+        //given
+        User second = userRepository.save(new User("second@test.com", "password", UserRole.USER));
+        User third = userRepository.save(new User("third@test.com", "password", UserRole.USER));
+
+        //when
+        userRepository.findById(user.getId());
+        userRepository.findById(second.getId());
+        userRepository.findById(third.getId());
+
+        //then
+        assertThat(cacheRegionFactory.evictionCount()).isPositive();
+        assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(User.class, third.getId())).isTrue();
+    }
+}
@@ -58,19 +58,39 @@ public class UserServiceTest {
         //given
         long userId = 1L;
         UserChangePasswordRequest request = new UserChangePasswordRequest("Test1234", "Test3456");
-
-        User user = mock(User.class);
+        User user = new User("test@test.com", "old-hash", UserRole.USER);
 
         given(passwordEncoder.matches(request.getOldPassword(), request.getNewPassword())).willReturn(false);
-        given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(true);
-        given(passwordEncoder.encode(request.getNewPassword())).willReturn(request.getNewPassword());
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(request.getOldPassword(), "old-hash")).willReturn(true);
+        given(passwordEncoder.encode(request.getNewPassword())).willReturn("new-hash");
+        given(userRepository.findCredentialsById(anyLong())).willReturn(Optional.of(user));
+        given(userRepository.updatePasswordIfUnchanged(userId, "old-hash", "new-hash")).willReturn(1);
 
         //when
         userService.changePassword(userId, request);
 
         //then
-        verify(user).changePassword(anyString());
+        verify(userRepository).updatePasswordIfUnchanged(userId, "old-hash", "new-hash");
+    }
+
+    @Test
+    @DisplayName("해시하는 동안 다른 요청이 비밀번호를 바꿨으면 덮어쓰지 않고 예외가 발생합니다.")
+    void changePassword_concurrent_change() {
+        //given
+        long userId = 1L;
+        UserChangePasswordRequest request = new UserChangePasswordRequest("Test1234", "Test3456");
+        User user = new User("test@test.com", "old-hash", UserRole.USER);
+
+        given(passwordEncoder.matches(request.getOldPassword(), request.getNewPassword())).willReturn(false);
+        given(passwordEncoder.matches(request.getOldPassword(), "old-hash")).willReturn(true);
+        given(passwordEncoder.encode(request.getNewPassword())).willReturn("new-hash");
+        given(userRepository.findCredentialsById(anyLong())).willReturn(Optional.of(user));
+        given(userRepository.updatePasswordIfUnchanged(userId, "old-hash", "new-hash")).willReturn(0);
+
+        //when & then
+        assertThatThrownBy(() -> userService.changePassword(userId, request))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessage("비밀번호가 다른 요청에서 변경되었습니다. 다시 시도해주세요.");
     }
 
     @Test
@@ -98,7 +118,7 @@ public class UserServiceTest {
 
         given(passwordEncoder.matches(request.getOldPassword(), request.getNewPassword())).willReturn(false);
         given(passwordEncoder.matches(request.getOldPassword(), user.getPassword())).willReturn(false);
-        given(userRepository.findById(anyLong())).willReturn(Optional.of(user));
+        given(userRepository.findCredentialsById(anyLong())).willReturn(Optional.of(user));
 
         //when
         assertThatThrownBy(() -> userService.changePassword(userId, request))